@@ -4,7 +4,12 @@
 import static io.quarkus.arc.deployment.OpenTelemetrySdkBuildItem.isOtelSdkEnabled;
 import static io.quarkus.deployment.Capability.OPENTELEMETRY_TRACER;
 
+import java.sql.CallableStatement;
+import java.sql.Connection;
 import java.sql.Driver;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -59,6 +64,7 @@
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.LogCategoryBuildItem;
 import io.quarkus.deployment.builditem.SslNativeConfigBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageProxyDefinitionBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBundleBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
@@ -393,6 +399,15 @@ void registerRowSetSupport(
                 "com.sun.rowset.providers.RIXMLProvider").build());
     }
 
+    @BuildStep
+    void registerStatementMetricsProxies(BuildProducer<NativeImageProxyDefinitionBuildItem> proxyDefinitions) {
+        // the JDBC proxies of StatementMetricsAgroalDataSource, enabled at runtime
+        for (Class<?> jdbcInterface : List.of(Connection.class, Statement.class, PreparedStatement.class,
+                CallableStatement.class, ResultSet.class)) {
+            proxyDefinitions.produce(new NativeImageProxyDefinitionBuildItem(jdbcInterface.getName()));
+        }
+    }
+
     @BuildStep
     void reduceLogging(BuildProducer<LogCategoryBuildItem> logCategories) {
         logCategories.produce(new LogCategoryBuildItem("io.agroal.pool", Level.WARNING));
@@ -0,0 +1,85 @@
+package io.quarkus.agroal.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class AdaptivePoolSizingTest {
+
+    @Inject
+    AgroalDataSource defaultDataSource;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withConfigurationResource("base.properties")
+            .overrideConfigKey("quarkus.datasource.jdbc.max-size", "8")
+            .overrideConfigKey("quarkus.datasource.jdbc.adaptive-sizing.enabled", "true")
+            .overrideConfigKey("quarkus.datasource.jdbc.adaptive-sizing.interval", "50ms")
+            .overrideConfigKey("quarkus.datasource.jdbc.idle-removal-interval", "200ms");
+
+    @Test
+    public void testPoolGrowsAndShrinks() throws Exception {
+        // The pool starts small
+        assertThat(maxSize()).isEqualTo(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CompletableFuture<Void> release = new CompletableFuture<>();
+        try {
+            for (int i = 0; i < 4; i++) {
+                executor.submit(() -> {
+                    try (Connection connection = defaultDataSource.getConnection()) {
+                        release.get(10, TimeUnit.SECONDS);
+                    }
+                    return null;
+                });
+            }
+
+            // Threads wait for connections: the pool grows, at most doubling at each adjustment
+            awaitMaxSize(size -> size >= 4);
+            assertThat(defaultDataSource.getMetrics().activeCount()).isEqualTo(4);
+            assertThat(maxSize()).isLessThanOrEqualTo(8);
+        } finally {
+            release.complete(null);
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        // The connections are not in use anymore: the pool shrinks back, and the idle connections in excess are removed
+        awaitMaxSize(size -> size == 1);
+        await(this::connections, count -> count <= 1);
+    }
+
+    private int maxSize() {
+        return defaultDataSource.getConfiguration().connectionPoolConfiguration().maxSize();
+    }
+
+    private int connections() {
+        return (int) (defaultDataSource.getMetrics().availableCount() + defaultDataSource.getMetrics().activeCount());
+    }
+
+    private void awaitMaxSize(IntPredicate predicate) throws InterruptedException {
+        await(this::maxSize, predicate);
+    }
+
+    private static void await(IntSupplier value, IntPredicate predicate) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!predicate.test(value.getAsInt()) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(value.getAsInt()).matches(predicate::test);
+    }
+}
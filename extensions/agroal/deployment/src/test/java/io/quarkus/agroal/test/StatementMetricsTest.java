@@ -0,0 +1,117 @@
+package io.quarkus.agroal.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.runtime.metrics.StatementMetrics;
+import io.quarkus.agroal.runtime.metrics.StatementMetricsAgroalDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StatementMetricsTest {
+
+    @Inject
+    AgroalDataSource defaultDataSource;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withConfigurationResource("base.properties")
+            .overrideConfigKey("quarkus.datasource.jdbc.statement-metrics.enabled", "true")
+            .overrideConfigKey("quarkus.datasource.jdbc.statement-metrics.slow-query-threshold", "0s")
+            .overrideConfigKey("quarkus.datasource.jdbc.statement-metrics.slow-query-max-count", "3");
+
+    @Test
+    public void testStatementMetrics() throws Exception {
+        StatementMetrics statementMetrics = defaultDataSource.unwrap(StatementMetricsAgroalDataSource.class)
+                .getStatementMetrics();
+        statementMetrics.reset();
+
+        try (Connection connection = defaultDataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE metrics_test (id INT, name VARCHAR(50))");
+                statement.executeUpdate("INSERT INTO metrics_test VALUES (1, 'one')");
+                statement.executeUpdate("INSERT INTO metrics_test VALUES (2, 'two')");
+                assertThat(statement.getConnection()).isSameAs(connection);
+            }
+            for (int i = 0; i < 2; i++) {
+                try (PreparedStatement statement = connection.prepareStatement("SELECT name FROM metrics_test WHERE id >= ?")) {
+                    statement.setInt(1, 1);
+                    try (ResultSet rs = statement.executeQuery()) {
+                        while (rs.next()) {
+                            assertThat(rs.getString(1)).isNotNull();
+                        }
+                    }
+                }
+            }
+        }
+
+        List<StatementMetrics.FingerprintStatistics> statistics = executed(statementMetrics);
+        assertThat(statistics).extracting(StatementMetrics.FingerprintStatistics::getFingerprint)
+                .containsExactlyInAnyOrder("CREATE TABLE metrics_test (id INT, name VARCHAR(?))",
+                        "INSERT INTO metrics_test VALUES (?, ?)",
+                        "SELECT name FROM metrics_test WHERE id >= ?");
+        StatementMetrics.FingerprintStatistics insert = find(statistics, "INSERT INTO metrics_test VALUES (?, ?)");
+        assertThat(insert.getCount()).isEqualTo(2);
+        StatementMetrics.FingerprintStatistics select = find(statistics, "SELECT name FROM metrics_test WHERE id >= ?");
+        assertThat(select.getCount()).isEqualTo(2);
+        assertThat(select.getRows()).isEqualTo(4);
+
+        // Only the slowest executions are kept
+        assertThat(statementMetrics.getSlowQueries()).hasSize(3)
+                .isSortedAccordingTo((q1, q2) -> q2.duration().compareTo(q1.duration()));
+    }
+
+    @Test
+    public void testRowsRecordedOnStatementClose() throws Exception {
+        StatementMetrics statementMetrics = defaultDataSource.unwrap(StatementMetricsAgroalDataSource.class)
+                .getStatementMetrics();
+
+        try (Connection connection = defaultDataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE rows_test (id INT)");
+                statement.executeUpdate("INSERT INTO rows_test VALUES (1), (2), (3)");
+            }
+            statementMetrics.reset();
+            for (int i = 0; i < 2; i++) {
+                try (PreparedStatement statement = connection.prepareStatement("SELECT id FROM rows_test")) {
+                    // The result set is only closed with the statement
+                    ResultSet rs = statement.executeQuery();
+                    while (rs.next()) {
+                        assertThat(rs.getInt(1)).isPositive();
+                    }
+                }
+            }
+        }
+
+        StatementMetrics.FingerprintStatistics select = find(executed(statementMetrics), "SELECT id FROM rows_test");
+        assertThat(select.getCount()).isEqualTo(2);
+        assertThat(select.getRows()).isEqualTo(6);
+
+        // The statistics are reset in place
+        statementMetrics.reset();
+        assertThat(statementMetrics.getStatistics()).contains(select);
+        assertThat(select.getCount()).isZero();
+        assertThat(select.getRows()).isZero();
+        assertThat(statementMetrics.getSlowQueries()).isEmpty();
+    }
+
+    private static List<StatementMetrics.FingerprintStatistics> executed(StatementMetrics statementMetrics) {
+        // The fingerprints are kept when the statistics are reset
+        return statementMetrics.getStatistics().stream().filter(s -> s.getCount() > 0).toList();
+    }
+
+    private static StatementMetrics.FingerprintStatistics find(List<StatementMetrics.FingerprintStatistics> statistics,
+            String fingerprint) {
+        return statistics.stream().filter(s -> s.getFingerprint().equals(fingerprint)).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,83 @@
+package io.quarkus.agroal.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StripedConnectionCacheTest {
+
+    @Inject
+    AgroalDataSource defaultDataSource;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withConfigurationResource("base.properties")
+            .overrideConfigKey("quarkus.datasource.jdbc.max-size", "4")
+            .overrideConfigKey("quarkus.datasource.jdbc.connection-cache", "striped");
+
+    @Test
+    public void testConcurrentAcquisitions() throws Exception {
+        assertEquals("QuarkusStripedConnectionCache",
+                defaultDataSource.getConfiguration().connectionPoolConfiguration().connectionCache().getClass()
+                        .getSimpleName());
+
+        // Plain platform threads are not cached per thread, so they use the shared slots
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                results.add(executor.submit(() -> {
+                    try (Connection connection = defaultDataSource.getConnection();
+                            ResultSet rs = connection.createStatement().executeQuery("SELECT 1")) {
+                        assertTrue(rs.next());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(0, defaultDataSource.getMetrics().activeCount());
+    }
+
+    @Test
+    public void testFlushedConnectionsAreNotHandedOut() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // Cache a connection in a shared slot, then destroy it
+            executor.submit(this::selectOne).get(30, TimeUnit.SECONDS);
+            defaultDataSource.flush(AgroalDataSource.FlushMode.ALL);
+            executor.submit(this::selectOne).get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(0, defaultDataSource.getMetrics().activeCount());
+    }
+
+    private Void selectOne() throws Exception {
+        try (Connection connection = defaultDataSource.getConnection();
+                ResultSet rs = connection.createStatement().executeQuery("SELECT 1")) {
+            assertTrue(rs.next());
+        }
+        return null;
+    }
+}
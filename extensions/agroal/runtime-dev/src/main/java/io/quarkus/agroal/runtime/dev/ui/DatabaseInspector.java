@@ -35,6 +35,8 @@
 import io.agroal.api.configuration.AgroalDataSourceConfiguration;
 import io.quarkus.agroal.runtime.AgroalDataSourceSupport;
 import io.quarkus.agroal.runtime.AgroalDataSourceUtil;
+import io.quarkus.agroal.runtime.metrics.StatementMetrics;
+import io.quarkus.agroal.runtime.metrics.StatementMetricsAgroalDataSource;
 import io.quarkus.arc.InactiveBeanException;
 import io.quarkus.arc.InjectableInstance;
 import io.quarkus.assistant.runtime.dev.Assistant;
@@ -355,6 +357,51 @@ public String getInsertScript(@JsonRpcDescription("Datasource name") String data
         return null;
     }
 
+    @JsonRpcDescription("Get the execution statistics of the statements of a certain datasource, the most time-consuming first")
+    @DevMCPEnableByDefault
+    public List<StatementStatistics> getStatementStatistics(@JsonRpcDescription("Datasource name") String datasource) {
+        StatementMetrics statementMetrics = getStatementMetrics(datasource);
+        if (statementMetrics == null) {
+            return List.of();
+        }
+        List<StatementStatistics> result = new ArrayList<>();
+        for (StatementMetrics.FingerprintStatistics statistics : statementMetrics.getStatistics()) {
+            result.add(new StatementStatistics(statistics.getFingerprint(), statistics.getCount(),
+                    statistics.getTotalTimeNanos() / 1_000_000, statistics.getMaxTimeNanos() / 1_000_000,
+                    statistics.getRows()));
+        }
+        return result;
+    }
+
+    @JsonRpcDescription("Get the slowest statement executions of a certain datasource, the slowest first")
+    @DevMCPEnableByDefault
+    public List<SlowQuery> getSlowQueries(@JsonRpcDescription("Datasource name") String datasource) {
+        StatementMetrics statementMetrics = getStatementMetrics(datasource);
+        if (statementMetrics == null) {
+            return List.of();
+        }
+        List<SlowQuery> result = new ArrayList<>();
+        for (StatementMetrics.SlowQuery slowQuery : statementMetrics.getSlowQueries()) {
+            result.add(new SlowQuery(slowQuery.fingerprint(), slowQuery.duration().toMillis(),
+                    slowQuery.executedAt().toString()));
+        }
+        return result;
+    }
+
+    private StatementMetrics getStatementMetrics(String datasource) {
+        if (isDev) {
+            AgroalDataSource ads = checkedDataSources.get(datasource);
+            try {
+                if (ads != null && ads.isWrapperFor(StatementMetricsAgroalDataSource.class)) {
+                    return ads.unwrap(StatementMetricsAgroalDataSource.class).getStatementMetrics();
+                }
+            } catch (SQLException ex) {
+                throw new RuntimeException(ex);
+            }
+        }
+        return null;
+    }
+
     public CompletionStage<Map<String, String>> generateTableData(String datasource, String schema, String name, int rowCount) {
         if (isDev && assistant.isPresent()) {
             List<Table> tables = getTables(datasource);
@@ -604,6 +651,12 @@ private static record Table(String tableSchema, String tableName, List<String> p
     private static record Datasource(String name, String jdbcUrl, boolean isDefault) {
     }
 
+    private static record StatementStatistics(String fingerprint, long count, long totalTimeMs, long maxTimeMs, long rows) {
+    }
+
+    private static record SlowQuery(String fingerprint, long durationMs, String executedAt) {
+    }
+
     private static record DataSet(List<String> cols, List<Map<String, String>> data, String error, String message,
             int totalNumberOfElements) {
     }
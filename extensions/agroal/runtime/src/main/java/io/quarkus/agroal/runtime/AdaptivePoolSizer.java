@@ -0,0 +1,102 @@
+package io.quarkus.agroal.runtime;
+
+import org.jboss.logging.Logger;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSourceMetrics;
+import io.agroal.api.configuration.AgroalConnectionPoolConfiguration;
+import io.quarkus.agroal.runtime.DataSourceJdbcRuntimeConfig.DataSourceJdbcAdaptiveSizing;
+
+/**
+ * Adjusts the maximum size of a pool, between its configured minimum and maximum sizes, to the observed load.
+ * <p>
+ * The pool grows when threads wait for connections, either right now or on average since the previous adjustment.
+ * It grows towards the number of connections needed, but at most doubles at each adjustment, so that a burst does not open
+ * many connections at once.
+ * <p>
+ * Following Little's law, the average number of connections in use is the rate of acquisitions
+ * multiplied by the time connections are held, which includes the latency of the queries.
+ * The pool shrinks gradually towards this average, multiplied by the configured headroom. The pool closes the connections
+ * in excess when they are returned, and the idle ones are closed by the idle removal.
+ */
+class AdaptivePoolSizer implements Runnable {
+
+    private static final Logger log = Logger.getLogger(AdaptivePoolSizer.class);
+
+    // the weight of the last observation in the average number of connections in use
+    private static final double SMOOTHING = 0.3;
+
+    private final String dataSourceName;
+    private final AgroalDataSource dataSource;
+    private final int lowerSize;
+    private final int upperSize;
+    private final long acquisitionWaitThresholdNanos;
+    private final double headroom;
+
+    private long lastAcquireCount;
+    private long lastBlockingTimeNanos;
+    private double averageDemand = -1;
+
+    AdaptivePoolSizer(String dataSourceName, AgroalDataSource dataSource, DataSourceJdbcRuntimeConfig config) {
+        this.dataSourceName = dataSourceName;
+        this.dataSource = dataSource;
+        this.lowerSize = lowerSize(config);
+        this.upperSize = Math.max(lowerSize, config.maxSize());
+        this.acquisitionWaitThresholdNanos = config.adaptiveSizing().acquisitionWaitThreshold().toNanos();
+        this.headroom = Math.max(1.0, config.adaptiveSizing().headroom());
+    }
+
+    /**
+     * @return the maximum size of the pool when it starts.
+     */
+    static int initialMaxSize(DataSourceJdbcRuntimeConfig config) {
+        int initialSize = Math.max(lowerSize(config), config.initialSize().orElse(0));
+        return Math.min(initialSize, Math.max(lowerSize(config), config.maxSize()));
+    }
+
+    private static int lowerSize(DataSourceJdbcRuntimeConfig config) {
+        return Math.max(1, config.minSize());
+    }
+
+    @Override
+    public void run() {
+        try {
+            adjust();
+        } catch (RuntimeException e) {
+            // most likely the datasource is being closed, it will be retried at the next adjustment anyway
+            log.debugf(e, "Unable to adjust the size of datasource %s", dataSourceName);
+        }
+    }
+
+    private void adjust() {
+        AgroalDataSourceMetrics metrics = dataSource.getMetrics();
+        long acquireCount = metrics.acquireCount();
+        long blockingTimeNanos = metrics.blockingTimeTotal().toNanos();
+        long acquired = acquireCount - lastAcquireCount;
+        long averageWaitNanos = acquired > 0 ? (blockingTimeNanos - lastBlockingTimeNanos) / acquired : 0;
+        lastAcquireCount = acquireCount;
+        lastBlockingTimeNanos = blockingTimeNanos;
+
+        long awaiting = metrics.awaitingCount();
+        long demand = metrics.activeCount() + awaiting;
+        averageDemand = averageDemand < 0 ? demand : SMOOTHING * demand + (1 - SMOOTHING) * averageDemand;
+
+        AgroalConnectionPoolConfiguration poolConfiguration = dataSource.getConfiguration().connectionPoolConfiguration();
+        int currentSize = poolConfiguration.maxSize();
+        int newSize = currentSize;
+        if (awaiting > 0 || averageWaitNanos > acquisitionWaitThresholdNanos) {
+            newSize = (int) Math.min(upperSize, Math.max(currentSize + 1, Math.min(2L * currentSize, demand)));
+        } else {
+            int neededSize = Math.max(lowerSize, (int) Math.ceil(averageDemand * headroom));
+            if (neededSize < currentSize) {
+                newSize = Math.max(neededSize, currentSize - Math.max(1, currentSize / 10));
+            }
+        }
+
+        if (newSize != currentSize) {
+            log.debugf("Adjusting the maximum size of datasource %s from %d to %d (in use: %.1f, average wait: %dus)",
+                    dataSourceName, currentSize, newSize, averageDemand, averageWaitNanos / 1000);
+            poolConfiguration.setMaxSize(newSize);
+        }
+    }
+}
@@ -131,6 +131,16 @@ public interface DataSourceJdbcRuntimeConfig {
     @WithDefault("false")
     boolean validateOnBorrow();
 
+    /**
+     * The strategy used to cache the connection released by a thread, so that the next acquisition can skip the shared pool.
+     * <p>
+     * With `thread-local`, the connection is cached per thread, for the Vert.x and JBoss threads only.
+     * With `striped`, the other threads, typically virtual threads which usually run a single task, share a fixed number
+     * of slots, so that they avoid contending on the shared pool too.
+     */
+    @WithDefault("thread-local")
+    ConnectionCacheStrategy connectionCache();
+
     /**
      * Disable pooling to prevent reuse of Connections. Use this when an external pool manages the life-cycle
      * of Connections.
@@ -172,4 +182,100 @@ public interface DataSourceJdbcRuntimeConfig {
     @ConfigDocDefault("false if quarkus.datasource.jdbc.telemetry=false and true if quarkus.datasource.jdbc.telemetry=true")
     Optional<Boolean> telemetry();
 
+    /**
+     * Statement-level metrics configuration.
+     */
+    DataSourceJdbcStatementMetrics statementMetrics();
+
+    @ConfigGroup
+    interface DataSourceJdbcStatementMetrics {
+
+        /**
+         * Whether to measure the execution of the statements of this datasource.
+         * <p>
+         * Statements are grouped by fingerprint, i.e. their SQL with literals replaced by `?`.
+         * The execution time and fetched rows of each fingerprint are exposed through Micrometer,
+         * and the slowest executions are kept in a bounded registry, visible in the Dev UI.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The ratio of statements that are measured, between `0` and `1`.
+         * <p>
+         * Lower it to reduce the overhead of the measurement on statement-heavy applications.
+         */
+        @WithDefault("1.0")
+        double samplingRatio();
+
+        /**
+         * The minimum execution time for an execution to be kept in the slow query registry.
+         */
+        @WithDefault("500ms")
+        Duration slowQueryThreshold();
+
+        /**
+         * The maximum number of executions kept in the slow query registry; only the slowest ones are kept.
+         */
+        @WithDefault("20")
+        int slowQueryMaxCount();
+
+        /**
+         * The maximum number of distinct fingerprints that are measured.
+         * <p>
+         * The statements beyond this limit, typically built dynamically, are not measured.
+         */
+        @WithDefault("200")
+        int maxFingerprints();
+    }
+
+    /**
+     * Adaptive pool sizing configuration.
+     */
+    DataSourceJdbcAdaptiveSizing adaptiveSizing();
+
+    @ConfigGroup
+    interface DataSourceJdbcAdaptiveSizing {
+
+        /**
+         * Whether to adapt the maximum size of the pool to the load, between `min-size` and `max-size`.
+         * <p>
+         * The pool starts small and grows as soon as threads wait for connections,
+         * then shrinks gradually when the connections are not in use anymore.
+         * Enabling it enables the collection of the pool metrics.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The interval at which the size of the pool is adjusted.
+         */
+        @WithDefault("1s")
+        Duration interval();
+
+        /**
+         * The average connection acquisition time above which the pool grows.
+         */
+        @WithDefault("10ms")
+        Duration acquisitionWaitThreshold();
+
+        /**
+         * The ratio between the size of the pool and the average number of connections in use,
+         * under which the pool doesn't shrink.
+         */
+        @WithDefault("1.5")
+        double headroom();
+    }
+
+    enum ConnectionCacheStrategy {
+        /**
+         * Cache the connection per thread, for the Vert.x and JBoss threads only.
+         */
+        THREAD_LOCAL,
+        /**
+         * Cache the connection per thread for the Vert.x and JBoss threads, and in shared slots for the other threads.
+         */
+        STRIPED
+    }
+
 }
@@ -8,8 +8,13 @@
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.inject.Any;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Singleton;
@@ -21,6 +26,7 @@
 
 import io.agroal.api.AgroalDataSource;
 import io.agroal.api.AgroalPoolInterceptor;
+import io.agroal.api.cache.ConnectionCache;
 import io.agroal.api.configuration.AgroalConnectionPoolConfiguration.ConnectionValidator;
 import io.agroal.api.configuration.AgroalConnectionPoolConfiguration.TransactionRequirement;
 import io.agroal.api.configuration.AgroalDataSourceConfiguration;
@@ -33,6 +39,8 @@
 import io.agroal.api.transaction.TransactionIntegration;
 import io.agroal.narayana.NarayanaTransactionIntegration;
 import io.quarkus.agroal.runtime.JdbcDriver.JdbcDriverLiteral;
+import io.quarkus.agroal.runtime.metrics.StatementMetrics;
+import io.quarkus.agroal.runtime.metrics.StatementMetricsAgroalDataSource;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ClientProxy;
 import io.quarkus.credentials.CredentialsProvider;
@@ -72,6 +80,7 @@ public class DataSources {
     private final AgroalDataSourceSupport agroalDataSourceSupport;
     private final Instance<AgroalPoolInterceptor> agroalPoolInterceptors;
     private final Instance<AgroalOpenTelemetryWrapper> agroalOpenTelemetryWrapper;
+    private ScheduledExecutorService adaptiveSizingExecutor;
 
     public DataSources(DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
             DataSourcesRuntimeConfig dataSourcesRuntimeConfig, DataSourcesJdbcBuildTimeConfig dataSourcesJdbcBuildTimeConfig,
@@ -202,12 +211,22 @@ public AgroalDataSource createDataSource(String dataSourceName, boolean otelEnab
         //we use a custom cache for two reasons:
         //fast thread local cache should be faster
         //and it prevents a thread local leak
+        ConnectionCache connectionCache;
+        Predicate<Thread> cachedPerThread;
         try {
             Class.forName("io.netty.util.concurrent.FastThreadLocal", true, Thread.currentThread().getContextClassLoader());
-            dataSourceConfiguration.connectionPoolConfiguration().connectionCache(new QuarkusNettyConnectionCache());
+            connectionCache = new QuarkusNettyConnectionCache();
+            cachedPerThread = QuarkusNettyConnectionCache::isCached;
         } catch (ClassNotFoundException e) {
-            dataSourceConfiguration.connectionPoolConfiguration().connectionCache(new QuarkusSimpleConnectionCache());
+            connectionCache = new QuarkusSimpleConnectionCache();
+            cachedPerThread = QuarkusSimpleConnectionCache::isCached;
         }
+        if (dataSourceJdbcRuntimeConfig.connectionCache() == DataSourceJdbcRuntimeConfig.ConnectionCacheStrategy.STRIPED) {
+            //the other threads, typically virtual threads, share a fixed number of slots
+            connectionCache = new QuarkusStripedConnectionCache(connectionCache, cachedPerThread,
+                    QuarkusStripedConnectionCache.defaultStripes(dataSourceJdbcRuntimeConfig.maxSize()));
+        }
+        dataSourceConfiguration.connectionPoolConfiguration().connectionCache(connectionCache);
 
         agroalConnectionConfigurer.setExceptionSorter(resolvedDbKind, dataSourceConfiguration);
 
@@ -228,6 +247,19 @@ public AgroalDataSource createDataSource(String dataSourceName, boolean otelEnab
             dataSource.setPoolInterceptors(interceptorList);
         }
 
+        if (dataSourceJdbcRuntimeConfig.poolingEnabled() && dataSourceJdbcRuntimeConfig.adaptiveSizing().enabled()) {
+            long interval = dataSourceJdbcRuntimeConfig.adaptiveSizing().interval().toMillis();
+            adaptiveSizingExecutor().scheduleWithFixedDelay(
+                    new AdaptivePoolSizer(dataSourceName, dataSource, dataSourceJdbcRuntimeConfig),
+                    interval, interval, TimeUnit.MILLISECONDS);
+        }
+
+        if (dataSourceJdbcRuntimeConfig.statementMetrics().enabled()) {
+            // measure the statements before the OpenTelemetry instrumentation, so that it is not part of the measurement
+            dataSource = new StatementMetricsAgroalDataSource(dataSource,
+                    new StatementMetrics(dataSourceJdbcRuntimeConfig.statementMetrics()));
+        }
+
         if (dataSourceJdbcBuildTimeConfig.telemetry() &&
                 dataSourceJdbcRuntimeConfig.telemetry().orElse(true) &&
                 otelEnabled) {
@@ -277,7 +309,10 @@ private void applyNewConfiguration(String dataSourceName, AgroalDataSourceConfig
         }
 
         // metrics
-        if (dataSourceJdbcBuildTimeConfig.metrics().enabled().isPresent()) {
+        if (dataSourceJdbcRuntimeConfig.adaptiveSizing().enabled()) {
+            // adaptive sizing relies on the pool metrics
+            dataSourceConfiguration.metricsEnabled(true);
+        } else if (dataSourceJdbcBuildTimeConfig.metrics().enabled().isPresent()) {
             dataSourceConfiguration.metricsEnabled(dataSourceJdbcBuildTimeConfig.metrics().enabled().get());
         } else {
             // if the enable-metrics property is unspecified, treat it as true if MP Metrics are being exposed
@@ -317,7 +352,12 @@ private void applyNewConfiguration(String dataSourceName, AgroalDataSourceConfig
 
         // Pool size configuration:
         poolConfiguration.minSize(dataSourceJdbcRuntimeConfig.minSize());
-        poolConfiguration.maxSize(dataSourceJdbcRuntimeConfig.maxSize());
+        if (dataSourceJdbcRuntimeConfig.adaptiveSizing().enabled()) {
+            // start small, the pool grows with the load
+            poolConfiguration.maxSize(AdaptivePoolSizer.initialMaxSize(dataSourceJdbcRuntimeConfig));
+        } else {
+            poolConfiguration.maxSize(dataSourceJdbcRuntimeConfig.maxSize());
+        }
         if (dataSourceJdbcRuntimeConfig.initialSize().isPresent() && dataSourceJdbcRuntimeConfig.initialSize().getAsInt() > 0) {
             poolConfiguration.initialSize(dataSourceJdbcRuntimeConfig.initialSize().getAsInt());
         }
@@ -371,6 +411,25 @@ public boolean isValid(Connection connection) {
         poolConfiguration.recoveryEnable(dataSourceJdbcRuntimeConfig.enableRecovery());
     }
 
+    private synchronized ScheduledExecutorService adaptiveSizingExecutor() {
+        if (adaptiveSizingExecutor == null) {
+            adaptiveSizingExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "agroal-adaptive-sizing");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return adaptiveSizingExecutor;
+    }
+
+    @PreDestroy
+    synchronized void stopAdaptiveSizing() {
+        if (adaptiveSizingExecutor != null) {
+            adaptiveSizingExecutor.shutdownNow();
+            adaptiveSizingExecutor = null;
+        }
+    }
+
     /**
      * Uses the {@link ServiceLoader#load(Class) ServiceLoader to load the JDBC drivers} in context
      * of the current {@link Thread#getContextClassLoader() TCCL}.
@@ -11,15 +11,18 @@ class QuarkusNettyConnectionCache implements ConnectionCache {
 
     final FastThreadLocal<Acquirable> connectionCache = new FastThreadLocal<>();
 
+    static boolean isCached(Thread thread) {
+        //we only want to cache on threads that we control the lifecycle
+        //which are the vert.x and potentially jboss threads
+        //JBossThread still works with FastThreadLocal, it is just slower, and for most apps
+        //this will not be used anyway, as we use VertThread pretty much everywhere if
+        //Vert.x is present
+        return thread instanceof FastThreadLocalThread || thread instanceof JBossThread;
+    }
+
     @Override
     public Acquirable get() {
-        Thread thread = Thread.currentThread();
-        if (thread instanceof FastThreadLocalThread || thread instanceof JBossThread) {
-            //we only want to cache on threads that we control the lifecycle
-            //which are the vert.x and potentially jboss threads
-            //JBossThread still works with FastThreadLocal, it is just slower, and for most apps
-            //this will not be used anyway, as we use VertThread pretty much everywhere if
-            //Vert.x is present
+        if (isCached(Thread.currentThread())) {
             Acquirable acquirable = connectionCache.get();
             return acquirable != null && acquirable.acquire() ? acquirable : null;
         }
@@ -28,8 +31,7 @@ public Acquirable get() {
 
     @Override
     public void put(Acquirable acquirable) {
-        Thread thread = Thread.currentThread();
-        if (thread instanceof FastThreadLocalThread || thread instanceof JBossThread) {
+        if (isCached(Thread.currentThread())) {
             connectionCache.set(acquirable);
         }
     }
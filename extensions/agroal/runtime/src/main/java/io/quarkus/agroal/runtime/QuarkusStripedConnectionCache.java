@@ -0,0 +1,106 @@
+package io.quarkus.agroal.runtime;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+import io.agroal.api.cache.Acquirable;
+import io.agroal.api.cache.ConnectionCache;
+
+/**
+ * A connection cache for threads that are not long-lived, typically virtual threads.
+ * <p>
+ * Caching a connection per virtual thread is pointless as a virtual thread usually runs a single task. Instead, the released
+ * connections are kept in a fixed number of shared slots. A thread looks up its home slot first, and then a bounded number of
+ * neighbouring slots, before falling back to the pool. A cached connection is only handed out if
+ * {@link Acquirable#acquire()} succeeds, so sharing the slots between threads is safe.
+ * <p>
+ * The threads for which {@code perThread} returns {@code true} keep using the per-thread cache.
+ */
+class QuarkusStripedConnectionCache implements ConnectionCache {
+
+    static final int MAX_PROBES = 4;
+
+    private final ConnectionCache perThreadCache;
+    private final Predicate<Thread> perThread;
+    private final int probes;
+    private volatile AtomicReferenceArray<Acquirable> slots;
+
+    QuarkusStripedConnectionCache(ConnectionCache perThreadCache, Predicate<Thread> perThread, int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("The number of stripes must be greater than zero: " + stripes);
+        }
+        this.perThreadCache = perThreadCache;
+        this.perThread = perThread;
+        this.probes = Math.min(stripes, MAX_PROBES);
+        this.slots = new AtomicReferenceArray<>(stripes);
+    }
+
+    /**
+     *
+     * @param maxPoolSize
+     * @return the default number of stripes for a pool of the given max size
+     */
+    static int defaultStripes(int maxPoolSize) {
+        return Math.max(1, Math.min(maxPoolSize, 2 * Runtime.getRuntime().availableProcessors()));
+    }
+
+    @Override
+    public Acquirable get() {
+        Thread thread = Thread.currentThread();
+        if (perThread.test(thread)) {
+            return perThreadCache.get();
+        }
+        AtomicReferenceArray<Acquirable> slots = this.slots;
+        int home = homeSlot(thread, slots.length());
+        for (int i = 0; i < probes; i++) {
+            int index = (home + i) % slots.length();
+            Acquirable acquirable = slots.get(index);
+            if (acquirable == null) {
+                continue;
+            }
+            if (!acquirable.isAcquirable()) {
+                // The connection was destroyed or flushed since it was cached, free the slot
+                slots.compareAndSet(index, acquirable, null);
+                continue;
+            }
+            if (acquirable.acquire()) {
+                // Leave the slot empty so that other threads do not try to acquire a connection in use
+                slots.compareAndSet(index, acquirable, null);
+                return acquirable;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void put(Acquirable acquirable) {
+        Thread thread = Thread.currentThread();
+        if (perThread.test(thread)) {
+            perThreadCache.put(acquirable);
+            return;
+        }
+        AtomicReferenceArray<Acquirable> slots = this.slots;
+        int home = homeSlot(thread, slots.length());
+        for (int i = 0; i < probes; i++) {
+            int index = (home + i) % slots.length();
+            if (slots.compareAndSet(index, null, acquirable)) {
+                return;
+            }
+        }
+        // All the probed slots are taken, replace the connection cached in the home slot
+        slots.set(home, acquirable);
+    }
+
+    @Override
+    public void reset() {
+        perThreadCache.reset();
+        slots = new AtomicReferenceArray<>(slots.length());
+    }
+
+    @SuppressWarnings("deprecation")
+    private static int homeSlot(Thread thread, int length) {
+        // Thread ids are assigned sequentially, so consecutive virtual threads are spread over consecutive slots
+        return (int) (thread.getId() % length);
+    }
+
+}
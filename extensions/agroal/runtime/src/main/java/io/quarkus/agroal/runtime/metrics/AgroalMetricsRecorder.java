@@ -1,5 +1,6 @@
 package io.quarkus.agroal.runtime.metrics;
 
+import java.sql.SQLException;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -121,6 +122,15 @@ public void accept(MetricsFactory metricsFactory) {
                         .tag("datasource", tagValue)
                         .unit("milliseconds")
                         .buildGauge(metrics::creationTimeTotal, convertToMillis);
+
+                try {
+                    if (dataSource.get().isWrapperFor(StatementMetricsAgroalDataSource.class)) {
+                        dataSource.get().unwrap(StatementMetricsAgroalDataSource.class).getStatementMetrics()
+                                .bind(metricsFactory, tagValue);
+                    }
+                } catch (SQLException e) {
+                    log.debug("Not registering statement metrics for datasource '" + dataSourceName + "'", e);
+                }
             }
         };
     }
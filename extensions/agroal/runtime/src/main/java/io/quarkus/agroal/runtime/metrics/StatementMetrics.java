@@ -0,0 +1,257 @@
+package io.quarkus.agroal.runtime.metrics;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.quarkus.agroal.runtime.DataSourceJdbcRuntimeConfig.DataSourceJdbcStatementMetrics;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * The statement-level metrics of a datasource, grouped by statement fingerprint.
+ * <p>
+ * The slowest executions are kept in a bounded registry, ordered by execution time.
+ */
+public class StatementMetrics {
+
+    private final double samplingRatio;
+    private final long slowQueryThresholdNanos;
+    private final int slowQueryMaxCount;
+    private final int maxFingerprints;
+
+    private final ConcurrentMap<String, FingerprintStatistics> statistics = new ConcurrentHashMap<>();
+    // A min-heap, so that the fastest of the slow queries is evicted first
+    private final PriorityQueue<SlowQuery> slowQueries = new PriorityQueue<>(Comparator.comparing(SlowQuery::duration));
+
+    private volatile MetricsFactory metricsFactory;
+    private volatile String tagValue;
+
+    public StatementMetrics(DataSourceJdbcStatementMetrics config) {
+        this.samplingRatio = config.samplingRatio();
+        this.slowQueryThresholdNanos = config.slowQueryThreshold().toNanos();
+        this.slowQueryMaxCount = config.slowQueryMaxCount();
+        this.maxFingerprints = config.maxFingerprints();
+    }
+
+    /**
+     * Exposes the statistics of each fingerprint through the given metrics factory,
+     * including the ones of the fingerprints that are not known yet.
+     */
+    public void bind(MetricsFactory metricsFactory, String tagValue) {
+        this.tagValue = tagValue;
+        this.metricsFactory = metricsFactory;
+        for (FingerprintStatistics fingerprintStatistics : statistics.values()) {
+            fingerprintStatistics.register(metricsFactory, tagValue);
+        }
+    }
+
+    /**
+     * @return whether the next statement should be measured.
+     */
+    boolean sample() {
+        return samplingRatio >= 1.0 || ThreadLocalRandom.current().nextDouble() < samplingRatio;
+    }
+
+    void recordExecution(String fingerprint, long durationNanos) {
+        FingerprintStatistics fingerprintStatistics = statistics(fingerprint);
+        if (fingerprintStatistics != null) {
+            fingerprintStatistics.recordExecution(durationNanos);
+        }
+        if (durationNanos >= slowQueryThresholdNanos && slowQueryMaxCount > 0) {
+            SlowQuery slowQuery = new SlowQuery(fingerprint, Duration.ofNanos(durationNanos), Instant.now());
+            synchronized (slowQueries) {
+                if (slowQueries.size() < slowQueryMaxCount) {
+                    slowQueries.add(slowQuery);
+                } else if (slowQueries.peek().duration().compareTo(slowQuery.duration()) < 0) {
+                    slowQueries.poll();
+                    slowQueries.add(slowQuery);
+                }
+            }
+        }
+    }
+
+    void recordRows(String fingerprint, long rows) {
+        FingerprintStatistics fingerprintStatistics = statistics(fingerprint);
+        if (fingerprintStatistics != null) {
+            fingerprintStatistics.rows.add(rows);
+        }
+    }
+
+    private FingerprintStatistics statistics(String fingerprint) {
+        FingerprintStatistics fingerprintStatistics = statistics.get(fingerprint);
+        if (fingerprintStatistics == null) {
+            if (statistics.size() >= maxFingerprints) {
+                // Most likely statements built dynamically, that would make the number of meters explode
+                return null;
+            }
+            fingerprintStatistics = statistics.computeIfAbsent(fingerprint, FingerprintStatistics::new);
+            MetricsFactory metricsFactory = this.metricsFactory;
+            if (metricsFactory != null) {
+                fingerprintStatistics.register(metricsFactory, tagValue);
+            }
+        }
+        return fingerprintStatistics;
+    }
+
+    /**
+     * @return the statistics of each fingerprint, the ones with the highest total execution time first.
+     */
+    public List<FingerprintStatistics> getStatistics() {
+        List<FingerprintStatistics> result = new ArrayList<>(statistics.values());
+        result.sort(Comparator.comparingLong(FingerprintStatistics::getTotalTimeNanos).reversed());
+        return result;
+    }
+
+    /**
+     * @return the slowest executions, the slowest first.
+     */
+    public List<SlowQuery> getSlowQueries() {
+        List<SlowQuery> result;
+        synchronized (slowQueries) {
+            result = new ArrayList<>(slowQueries);
+        }
+        result.sort(Comparator.comparing(SlowQuery::duration).reversed());
+        return result;
+    }
+
+    /**
+     * Resets the statistics of each fingerprint and clears the slow queries.
+     * <p>
+     * The fingerprints are kept, so that the meters already registered stay bound to their statistics.
+     */
+    public void reset() {
+        for (FingerprintStatistics fingerprintStatistics : statistics.values()) {
+            fingerprintStatistics.reset();
+        }
+        synchronized (slowQueries) {
+            slowQueries.clear();
+        }
+    }
+
+    /**
+     * Normalizes the given SQL so that the statements that only differ by their literals share the same fingerprint:
+     * string and numeric literals are replaced by {@code ?} and whitespaces are collapsed.
+     */
+    static String fingerprint(String sql) {
+        StringBuilder sb = new StringBuilder(sql.length());
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                // skip the string literal, including escaped quotes
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                sb.append('?');
+                i++;
+            } else if (Character.isDigit(c) && (sb.isEmpty() || !isIdentifierPart(sb.charAt(sb.length() - 1)))) {
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                sb.append('?');
+            } else if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (!sb.isEmpty() && i < length) {
+                    sb.append(' ');
+                }
+            } else {
+                sb.append(c);
+                i++;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '?';
+    }
+
+    public static final class FingerprintStatistics {
+
+        private final String fingerprint;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalTimeNanos = new LongAdder();
+        private final LongAccumulator maxTimeNanos = new LongAccumulator(Math::max, 0);
+        // Never reset, since the rows counter is monotonic
+        private final LongAdder rows = new LongAdder();
+        private volatile long rowsAtReset;
+        private volatile MetricsFactory.TimeRecorder timer;
+
+        FingerprintStatistics(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        void register(MetricsFactory metricsFactory, String tagValue) {
+            timer = metricsFactory.builder("agroal.statement.execution")
+                    .description("Execution time of the statements sharing the same fingerprint.")
+                    .tag("datasource", tagValue)
+                    .tag("statement", fingerprint)
+                    .buildTimer();
+            metricsFactory.builder("agroal.statement.rows")
+                    .description("Number of rows fetched by the statements sharing the same fingerprint.")
+                    .tag("datasource", tagValue)
+                    .tag("statement", fingerprint)
+                    .buildCounter(rows::sum);
+        }
+
+        void recordExecution(long durationNanos) {
+            count.increment();
+            totalTimeNanos.add(durationNanos);
+            maxTimeNanos.accumulate(durationNanos);
+            MetricsFactory.TimeRecorder timer = this.timer;
+            if (timer != null) {
+                timer.update(durationNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotalTimeNanos() {
+            return totalTimeNanos.sum();
+        }
+
+        public long getMaxTimeNanos() {
+            return maxTimeNanos.get();
+        }
+
+        public long getRows() {
+            return rows.sum() - rowsAtReset;
+        }
+
+        void reset() {
+            count.reset();
+            totalTimeNanos.reset();
+            maxTimeNanos.reset();
+            rowsAtReset = rows.sum();
+        }
+    }
+
+    public record SlowQuery(String fingerprint, Duration duration, Instant executedAt) {
+    }
+}
@@ -0,0 +1,284 @@
+package io.quarkus.agroal.runtime.metrics;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.ShardingKeyBuilder;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.logging.Logger;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSourceMetrics;
+import io.agroal.api.AgroalPoolInterceptor;
+import io.agroal.api.configuration.AgroalDataSourceConfiguration;
+
+/**
+ * The {@link AgroalDataSource} wrapper that measures the execution of statements.
+ * <p>
+ * Only the statements elected by the sampling are wrapped, so the other ones run unchanged.
+ */
+public class StatementMetricsAgroalDataSource implements AgroalDataSource {
+
+    private final AgroalDataSource delegate;
+    private final StatementMetrics statementMetrics;
+
+    public StatementMetricsAgroalDataSource(AgroalDataSource delegate, StatementMetrics statementMetrics) {
+        this.delegate = delegate;
+        this.statementMetrics = statementMetrics;
+    }
+
+    public StatementMetrics getStatementMetrics() {
+        return statementMetrics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(delegate.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(delegate.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(StatementMetricsAgroalDataSource.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, new ConnectionHandler(connection, statementMetrics));
+    }
+
+    @Override
+    public boolean isHealthy(boolean newConnection) throws SQLException {
+        return delegate.isHealthy(newConnection);
+    }
+
+    @Override
+    public AgroalDataSourceConfiguration getConfiguration() {
+        return delegate.getConfiguration();
+    }
+
+    @Override
+    public AgroalDataSourceMetrics getMetrics() {
+        return delegate.getMetrics();
+    }
+
+    @Override
+    public void flush(FlushMode mode) {
+        delegate.flush(mode);
+    }
+
+    @Override
+    public void setPoolInterceptors(Collection<? extends AgroalPoolInterceptor> interceptors) {
+        delegate.setPoolInterceptors(interceptors);
+    }
+
+    @Override
+    public List<AgroalPoolInterceptor> getPoolInterceptors() {
+        return delegate.getPoolInterceptors();
+    }
+
+    @Override
+    public ShardingKeyBuilder createShardingKeyBuilder() throws SQLException {
+        return delegate.createShardingKeyBuilder();
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return delegate.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        delegate.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        delegate.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return delegate.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return delegate.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return delegate.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || delegate.isWrapperFor(iface);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection connection;
+        private final StatementMetrics statementMetrics;
+
+        ConnectionHandler(Connection connection, StatementMetrics statementMetrics) {
+            this.connection = connection;
+            this.statementMetrics = statementMetrics;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = StatementMetricsAgroalDataSource.invoke(connection, method, args);
+            if (result instanceof Statement statement && statementMetrics.sample()) {
+                // prepareStatement() and prepareCall() take the SQL as first parameter, createStatement() doesn't
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                Class<?> statementInterface = statement instanceof CallableStatement ? CallableStatement.class
+                        : statement instanceof PreparedStatement ? PreparedStatement.class
+                        : Statement.class;
+                return Proxy.newProxyInstance(StatementMetricsAgroalDataSource.class.getClassLoader(),
+                        new Class<?>[] { statementInterface },
+                        new StatementHandler(statement, proxy, sql, statementMetrics));
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement statement;
+        private final Object connectionProxy;
+        private final StatementMetrics statementMetrics;
+        private String fingerprint;
+        // The result sets that are not closed explicitly are closed with the statement
+        private final List<ResultSetHandler> resultSets = new ArrayList<>();
+
+        StatementHandler(Statement statement, Object connectionProxy, String sql, StatementMetrics statementMetrics) {
+            this.statement = statement;
+            this.connectionProxy = connectionProxy;
+            this.statementMetrics = statementMetrics;
+            this.fingerprint = sql == null ? null : StatementMetrics.fingerprint(sql);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("getConnection")) {
+                return connectionProxy;
+            }
+            if (name.equals("addBatch") && args != null && args.length == 1 && fingerprint == null) {
+                // Plain statement batch: use the first statement of the batch as fingerprint
+                fingerprint = StatementMetrics.fingerprint((String) args[0]);
+            }
+            if (name.equals("close")) {
+                try {
+                    return StatementMetricsAgroalDataSource.invoke(statement, method, args);
+                } finally {
+                    for (ResultSetHandler resultSet : resultSets) {
+                        resultSet.recordRows();
+                    }
+                    resultSets.clear();
+                }
+            }
+            if (!name.startsWith("execute")) {
+                Object result = StatementMetricsAgroalDataSource.invoke(statement, method, args);
+                if (result instanceof ResultSet resultSet && name.equals("getResultSet")) {
+                    return wrap(resultSet, fingerprint);
+                }
+                return result;
+            }
+
+            String executedFingerprint = args != null && args.length > 0 && args[0] instanceof String sql
+                    ? StatementMetrics.fingerprint(sql)
+                    : fingerprint;
+            long start = System.nanoTime();
+            try {
+                Object result = StatementMetricsAgroalDataSource.invoke(statement, method, args);
+                if (result instanceof ResultSet resultSet && executedFingerprint != null) {
+                    return wrap(resultSet, executedFingerprint);
+                }
+                return result;
+            } finally {
+                if (executedFingerprint != null) {
+                    statementMetrics.recordExecution(executedFingerprint, System.nanoTime() - start);
+                }
+            }
+        }
+
+        private Object wrap(ResultSet resultSet, String fingerprint) {
+            if (fingerprint == null) {
+                return resultSet;
+            }
+            ResultSetHandler handler = new ResultSetHandler(resultSet, fingerprint, statementMetrics);
+            resultSets.add(handler);
+            return Proxy.newProxyInstance(StatementMetricsAgroalDataSource.class.getClassLoader(),
+                    new Class<?>[] { ResultSet.class }, handler);
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet resultSet;
+        private final String fingerprint;
+        private final StatementMetrics statementMetrics;
+        private long rows;
+        private boolean recorded;
+
+        ResultSetHandler(ResultSet resultSet, String fingerprint, StatementMetrics statementMetrics) {
+            this.resultSet = resultSet;
+            this.fingerprint = fingerprint;
+            this.statementMetrics = statementMetrics;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = StatementMetricsAgroalDataSource.invoke(resultSet, method, args);
+            switch (method.getName()) {
+                case "next":
+                    if (Boolean.TRUE.equals(result)) {
+                        rows++;
+                    }
+                    break;
+                case "close":
+                    recordRows();
+                    break;
+                default:
+                    break;
+            }
+            return result;
+        }
+
+        void recordRows() {
+            if (!recorded) {
+                recorded = true;
+                statementMetrics.recordRows(fingerprint, rows);
+            }
+        }
+    }
+}
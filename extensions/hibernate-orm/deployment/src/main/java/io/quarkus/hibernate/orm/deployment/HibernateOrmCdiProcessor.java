@@ -64,9 +64,12 @@
 import io.quarkus.gizmo.ClassTransformer;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.hibernate.orm.PersistenceUnit;
+import io.quarkus.hibernate.orm.ReadOnly;
 import io.quarkus.hibernate.orm.runtime.HibernateOrmRecorder;
 import io.quarkus.hibernate.orm.runtime.JPAConfig;
 import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
+import io.quarkus.hibernate.orm.runtime.ReadOnlyTransactionInterceptor;
+import io.quarkus.hibernate.orm.runtime.ReadOnlyTransactionKeyInterceptor;
 import io.quarkus.hibernate.orm.runtime.RequestScopedSessionHolder;
 import io.quarkus.hibernate.orm.runtime.RequestScopedStatelessSessionHolder;
 import io.quarkus.hibernate.orm.runtime.TransactionSessions;
@@ -249,6 +252,12 @@ void registerBeans(BuildProducer<AdditionalBeanBuildItem> additionalBeans,
             unremovableClasses.add(TransactionSessions.class);
             unremovableClasses.add(RequestScopedSessionHolder.class);
             unremovableClasses.add(RequestScopedStatelessSessionHolder.class);
+
+            // @ReadOnly transactions, routed to the read replicas of the persistence unit
+            additionalBeans.produce(AdditionalBeanBuildItem.builder()
+                    .addBeanClasses(ReadOnly.class, ReadOnlyTransactionKeyInterceptor.class,
+                            ReadOnlyTransactionInterceptor.class)
+                    .build());
         }
         additionalBeans.produce(AdditionalBeanBuildItem.builder().setUnremovable()
                 .addBeanClasses(unremovableClasses.toArray(new Class<?>[unremovableClasses.size()]))
@@ -84,6 +84,7 @@
 import io.quarkus.arc.deployment.staticmethods.InterceptedStaticMethodsTransformersRegisteredBuildItem;
 import io.quarkus.arc.processor.DotNames;
 import io.quarkus.builder.BuildException;
+import io.quarkus.cache.deployment.spi.AdditionalCacheNameBuildItem;
 import io.quarkus.datasource.common.runtime.DataSourceUtil;
 import io.quarkus.datasource.common.runtime.DatabaseKind;
 import io.quarkus.deployment.Capabilities;
@@ -134,10 +135,12 @@
 import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
 import io.quarkus.hibernate.orm.runtime.boot.QuarkusPersistenceUnitDefinition;
 import io.quarkus.hibernate.orm.runtime.boot.QuarkusPersistenceUnitDescriptor;
+import io.quarkus.hibernate.orm.runtime.boot.RepositoryQuery;
 import io.quarkus.hibernate.orm.runtime.boot.scan.QuarkusScanner;
 import io.quarkus.hibernate.orm.runtime.boot.xml.JAXBElementSubstitution;
 import io.quarkus.hibernate.orm.runtime.boot.xml.QNameSubstitution;
 import io.quarkus.hibernate.orm.runtime.boot.xml.RecordableXmlMapping;
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusCacheRegionFactory;
 import io.quarkus.hibernate.orm.runtime.config.DialectVersions;
 import io.quarkus.hibernate.orm.runtime.customized.FormatMapperKind;
 import io.quarkus.hibernate.orm.runtime.customized.JsonFormatterCustomizationCheck;
@@ -214,6 +217,16 @@ void registerStrategyForReflection(
                 .methods().fields().build());
     }
 
+    @BuildStep
+    void registerSecondLevelCacheQuarkusCache(Capabilities capabilities,
+            BuildProducer<AdditionalCacheNameBuildItem> additionalCacheNames) {
+        // Second-level cache regions are stored in the Quarkus Cache depending on the runtime configuration,
+        // but the cache can only be created at build time
+        if (capabilities.isPresent(Capability.CACHE)) {
+            additionalCacheNames.produce(new AdditionalCacheNameBuildItem(QuarkusCacheRegionFactory.CACHE_NAME));
+        }
+    }
+
     @BuildStep
     void registerHibernateOrmMetadataForCoreDialects(
             BuildProducer<DatabaseKindDialectBuildItem> producer) {
@@ -583,6 +596,7 @@ private boolean hasXmlMappings(List<PersistenceUnitDescriptorBuildItem> persiste
     @Record(STATIC_INIT)
     public void build(RecorderContext recorderContext, HibernateOrmRecorder recorder,
             Capabilities capabilities,
+            CombinedIndexBuildItem index,
             JpaModelBuildItem jpaModel,
             HibernateOrmConfig hibernateOrmConfig,
             List<PersistenceUnitDescriptorBuildItem> persistenceUnitDescriptorBuildItems,
@@ -626,11 +640,15 @@ public void build(RecorderContext recorderContext, HibernateOrmRecorder recorder
         Map<String, List<HibernateOrmIntegrationStaticDescriptor>> integrationStaticDescriptors = HibernateOrmIntegrationStaticConfiguredBuildItem
                 .collectDescriptors(integrationBuildItems);
 
+        Map<String, List<RepositoryQuery>> repositoryQueries = RepositoryQueryCollector.collect(index.getIndex(),
+                HibernateOrmProcessor.class.getClassLoader());
+
         List<QuarkusPersistenceUnitDefinition> finalStagePUDescriptors = new ArrayList<>();
         for (PersistenceUnitDescriptorBuildItem pud : persistenceUnitDescriptorBuildItems) {
             finalStagePUDescriptors.add(
                     pud.asOutputPersistenceUnitDefinition(integrationStaticDescriptors
-                            .getOrDefault(pud.getPersistenceUnitName(), Collections.emptyList())));
+                            .getOrDefault(pud.getPersistenceUnitName(), Collections.emptyList()),
+                            repositoryQueries.getOrDefault(pud.getPersistenceUnitName(), Collections.emptyList())));
         }
 
         if (hasXmlMappings(persistenceUnitDescriptorBuildItems)) {
@@ -7,6 +7,7 @@
 import io.quarkus.builder.item.MultiBuildItem;
 import io.quarkus.hibernate.orm.runtime.boot.QuarkusPersistenceUnitDefinition;
 import io.quarkus.hibernate.orm.runtime.boot.QuarkusPersistenceUnitDescriptor;
+import io.quarkus.hibernate.orm.runtime.boot.RepositoryQuery;
 import io.quarkus.hibernate.orm.runtime.boot.xml.RecordableXmlMapping;
 import io.quarkus.hibernate.orm.runtime.customized.FormatMapperKind;
 import io.quarkus.hibernate.orm.runtime.integration.HibernateOrmIntegrationStaticDescriptor;
@@ -83,9 +84,10 @@ public boolean isHibernateValidatorPresent() {
     }
 
     public QuarkusPersistenceUnitDefinition asOutputPersistenceUnitDefinition(
-            List<HibernateOrmIntegrationStaticDescriptor> integrationStaticDescriptors) {
+            List<HibernateOrmIntegrationStaticDescriptor> integrationStaticDescriptors,
+            List<RepositoryQuery> repositoryQueries) {
         return new QuarkusPersistenceUnitDefinition(descriptor, config,
                 xmlMappings, fromPersistenceXml, isHibernateValidatorPresent, jsonMapper, xmlMapper,
-                integrationStaticDescriptors);
+                integrationStaticDescriptors, repositoryQueries);
     }
 }
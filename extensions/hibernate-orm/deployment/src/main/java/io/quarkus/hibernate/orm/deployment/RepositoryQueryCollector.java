@@ -0,0 +1,280 @@
+package io.quarkus.hibernate.orm.deployment;
+
+import static io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.annotations.processing.HQL;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget.Kind;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.logging.Logger;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import io.quarkus.deployment.util.IoUtil;
+import io.quarkus.gizmo.Gizmo;
+import io.quarkus.hibernate.orm.runtime.boot.RepositoryQuery;
+
+/**
+ * Collects the queries executed by the repository implementations generated by the Hibernate Processor,
+ * so that their interpretation can be cached on startup instead of on first use.
+ * <p>
+ * The queries are read from the bytecode of the generated implementations rather than from the {@code @Query} or
+ * {@code @HQL} annotations, because the Hibernate Processor may rewrite them, e.g. to add the {@code from} clause a
+ * JDQL query omits, and because the result type it passes depends on the return type of the method,
+ * e.g. {@code Book} for {@code Page<Book>}.
+ * Only the queries passed as constants are collected: a query string built at runtime cannot be known ahead of its use.
+ * <p>
+ * Named queries don't need to be collected: Hibernate ORM already interprets them on startup.
+ */
+final class RepositoryQueryCollector {
+
+    private static final Logger LOG = Logger.getLogger(RepositoryQueryCollector.class);
+
+    private static final DotName JAKARTA_DATA_REPOSITORY = DotName.createSimple("jakarta.data.repository.Repository");
+    private static final DotName JAKARTA_DATA_QUERY = DotName.createSimple("jakarta.data.repository.Query");
+    private static final DotName HIBERNATE_HQL = DotName.createSimple(HQL.class.getName());
+
+    private static final Set<String> QUERY_METHODS = Set.of("createQuery", "createSelectionQuery", "createMutationQuery");
+    private static final String QUERY_DESCRIPTOR_PREFIX = "(Ljava/lang/String;";
+    private static final String TYPED_QUERY_DESCRIPTOR_PREFIX = "(Ljava/lang/String;Ljava/lang/Class;)";
+
+    private RepositoryQueryCollector() {
+    }
+
+    /**
+     * @return the repository queries, grouped by persistence unit.
+     */
+    static Map<String, List<RepositoryQuery>> collect(IndexView index, ClassLoader classLoader) {
+        Set<ClassInfo> repositories = new LinkedHashSet<>();
+        for (AnnotationInstance repository : index.getAnnotations(JAKARTA_DATA_REPOSITORY)) {
+            if (repository.target().kind() == Kind.CLASS) {
+                repositories.add(repository.target().asClass());
+            }
+        }
+        List<AnnotationInstance> queryAnnotations = new ArrayList<>(index.getAnnotations(JAKARTA_DATA_QUERY));
+        queryAnnotations.addAll(index.getAnnotations(HIBERNATE_HQL));
+        for (AnnotationInstance queryAnnotation : queryAnnotations) {
+            if (queryAnnotation.target().kind() == Kind.METHOD) {
+                repositories.add(queryAnnotation.target().asMethod().declaringClass());
+            }
+        }
+
+        Map<String, List<RepositoryQuery>> queries = new HashMap<>();
+        // An implementation of a repository extending another one is read once, with the persistence unit of the former
+        Set<DotName> readImplementations = new HashSet<>();
+        for (ClassInfo repository : repositories) {
+            List<RepositoryQuery> repositoryQueries = new ArrayList<>();
+            for (DotName implementation : implementations(index, repository)) {
+                if (readImplementations.add(implementation)) {
+                    repositoryQueries.addAll(readQueries(classLoader, implementation.toString()));
+                }
+            }
+            if (!repositoryQueries.isEmpty()) {
+                queries.computeIfAbsent(persistenceUnitName(repository), ignored -> new ArrayList<>())
+                        .addAll(repositoryQueries);
+            }
+        }
+        return queries;
+    }
+
+    private static Set<DotName> implementations(IndexView index, ClassInfo repository) {
+        Set<DotName> implementations = new LinkedHashSet<>();
+        for (ClassInfo implementor : index.getAllKnownImplementors(repository.name())) {
+            implementations.add(implementor.name());
+        }
+        // The Hibernate Processor generates static methods in a separate class for the interfaces it does not implement
+        ClassInfo generated = index.getClassByName(repository.name().toString() + "_");
+        if (generated != null) {
+            implementations.add(generated.name());
+        }
+        return implementations;
+    }
+
+    private static String persistenceUnitName(ClassInfo repository) {
+        // The persistence unit of a Jakarta Data repository is set through its data store
+        AnnotationInstance annotation = repository.declaredAnnotation(JAKARTA_DATA_REPOSITORY);
+        AnnotationValue dataStore = annotation == null ? null : annotation.value("dataStore");
+        if (dataStore == null || dataStore.asString().isEmpty()) {
+            return DEFAULT_PERSISTENCE_UNIT_NAME;
+        }
+        return dataStore.asString();
+    }
+
+    private static List<RepositoryQuery> readQueries(ClassLoader classLoader, String className) {
+        List<RepositoryQuery> queries = new ArrayList<>();
+        try {
+            byte[] bytes = IoUtil.readClassAsBytes(classLoader, className);
+            if (bytes == null) {
+                LOG.warnf("Unable to find the bytecode of repository implementation %s,"
+                        + " its queries will be interpreted on first use", className);
+                return queries;
+            }
+            new ClassReader(bytes).accept(new ClassVisitor(Gizmo.ASM_API_VERSION) {
+                @Override
+                public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                        String[] exceptions) {
+                    return new QueryMethodVisitor(queries);
+                }
+            }, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        } catch (IOException | RuntimeException e) {
+            LOG.warnf(e, "Unable to read the queries of repository implementation %s,"
+                    + " they will be interpreted on first use", className);
+        }
+        return queries;
+    }
+
+    /**
+     * Records the query strings loaded as constants right before the invocation of a method creating a query,
+     * along with the class constant loaded as result type, if any.
+     */
+    private static final class QueryMethodVisitor extends MethodVisitor {
+
+        private final List<RepositoryQuery> queries;
+        private String query;
+        private String resultTypeName;
+
+        QueryMethodVisitor(List<RepositoryQuery> queries) {
+            super(Gizmo.ASM_API_VERSION);
+            this.queries = queries;
+        }
+
+        @Override
+        public void visitLdcInsn(Object value) {
+            if (value instanceof String string) {
+                query = string;
+                resultTypeName = null;
+            } else if (value instanceof Type type && query != null && resultTypeName == null
+                    && (type.getSort() == Type.OBJECT || type.getSort() == Type.ARRAY)) {
+                // Array class names are in the format expected by Class.forName()
+                resultTypeName = type.getSort() == Type.ARRAY ? type.getDescriptor().replace('/', '.')
+                        : type.getClassName();
+            } else {
+                reset();
+            }
+        }
+
+        @Override
+        public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+            // Primitive classes, e.g. long.class, are loaded from the TYPE field of their wrapper
+            if (opcode == Opcodes.GETSTATIC && name.equals("TYPE") && owner.startsWith("java/lang/")
+                    && query != null && resultTypeName == null) {
+                Type type = descriptor.equals("Ljava/lang/Class;") ? primitiveType(owner) : null;
+                if (type != null) {
+                    resultTypeName = type.getClassName();
+                    return;
+                }
+            }
+            reset();
+        }
+
+        @Override
+        public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+            if (query != null && QUERY_METHODS.contains(name)
+                    && (owner.startsWith("org/hibernate/") || owner.startsWith("jakarta/persistence/"))) {
+                if (resultTypeName != null && descriptor.startsWith(TYPED_QUERY_DESCRIPTOR_PREFIX)) {
+                    queries.add(new RepositoryQuery(query, resultTypeName));
+                } else if (resultTypeName == null && descriptor.startsWith(QUERY_DESCRIPTOR_PREFIX)
+                        && Type.getArgumentTypes(descriptor).length == 1) {
+                    queries.add(new RepositoryQuery(query, null));
+                }
+            }
+            reset();
+        }
+
+        @Override
+        public void visitInsn(int opcode) {
+            reset();
+        }
+
+        @Override
+        public void visitIntInsn(int opcode, int operand) {
+            reset();
+        }
+
+        @Override
+        public void visitVarInsn(int opcode, int varIndex) {
+            reset();
+        }
+
+        @Override
+        public void visitTypeInsn(int opcode, String type) {
+            reset();
+        }
+
+        @Override
+        public void visitInvokeDynamicInsn(String name, String descriptor, Handle bootstrapMethodHandle,
+                Object... bootstrapMethodArguments) {
+            reset();
+        }
+
+        @Override
+        public void visitJumpInsn(int opcode, Label label) {
+            reset();
+        }
+
+        @Override
+        public void visitIincInsn(int varIndex, int increment) {
+            reset();
+        }
+
+        @Override
+        public void visitTableSwitchInsn(int min, int max, Label dflt, Label... labels) {
+            reset();
+        }
+
+        @Override
+        public void visitLookupSwitchInsn(Label dflt, int[] keys, Label[] labels) {
+            reset();
+        }
+
+        @Override
+        public void visitMultiANewArrayInsn(String descriptor, int numDimensions) {
+            reset();
+        }
+
+        private void reset() {
+            query = null;
+            resultTypeName = null;
+        }
+
+        private static Type primitiveType(String wrapper) {
+            switch (wrapper) {
+                case "java/lang/Boolean":
+                    return Type.BOOLEAN_TYPE;
+                case "java/lang/Character":
+                    return Type.CHAR_TYPE;
+                case "java/lang/Byte":
+                    return Type.BYTE_TYPE;
+                case "java/lang/Short":
+                    return Type.SHORT_TYPE;
+                case "java/lang/Integer":
+                    return Type.INT_TYPE;
+                case "java/lang/Long":
+                    return Type.LONG_TYPE;
+                case "java/lang/Float":
+                    return Type.FLOAT_TYPE;
+                case "java/lang/Double":
+                    return Type.DOUBLE_TYPE;
+                default:
+                    return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package io.quarkus.hibernate.orm.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+import org.hibernate.Session;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.MyEntity;
+import io.quarkus.hibernate.orm.ReadOnly;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ReadReplicaTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(MyEntity.class, UrlService.class)
+                    .addAsResource(EmptyAsset.INSTANCE, "import.sql"))
+            .overrideConfigKey("quarkus.datasource.replica1.db-kind", "h2")
+            .overrideConfigKey("quarkus.datasource.replica1.jdbc.url", "jdbc:h2:mem:replica1")
+            .overrideConfigKey("quarkus.datasource.replica2.db-kind", "h2")
+            .overrideConfigKey("quarkus.datasource.replica2.jdbc.url", "jdbc:h2:mem:replica2")
+            .overrideConfigKey("quarkus.hibernate-orm.read-replica-datasources", "replica1,replica2");
+
+    @Inject
+    UrlService urlService;
+
+    @Test
+    public void readWriteTransaction() {
+        assertThat(urlService.readWrite()).isEqualTo("jdbc:h2:mem:test");
+    }
+
+    @Test
+    public void readOnlyTransaction() {
+        Set<String> urls = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            urls.add(urlService.readOnly());
+        }
+        assertThat(urls).containsExactlyInAnyOrder("jdbc:h2:mem:replica1", "jdbc:h2:mem:replica2");
+    }
+
+    @Test
+    public void readOnlyWithinReadWriteTransaction() {
+        assertThat(urlService.readWriteThenReadOnly()).isEqualTo("jdbc:h2:mem:test");
+    }
+
+    @Test
+    public void readOnlyAfterPersist() {
+        // Allocate identifiers, so that the next persist does not access the database
+        urlService.persist("first");
+        // The transaction was not started by the read-only method, so it is not routed to a replica
+        assertThat(urlService.persistThenReadOnly("second")).isEqualTo("jdbc:h2:mem:test");
+        assertThat(urlService.count()).isEqualTo(2);
+    }
+
+    @ApplicationScoped
+    public static class UrlService {
+
+        @Inject
+        Session session;
+
+        @Inject
+        UrlService self;
+
+        @Transactional
+        public String readWrite() {
+            return currentUrl();
+        }
+
+        @Transactional
+        @ReadOnly
+        public String readOnly() {
+            String url = currentUrl();
+            // The replica is kept for the whole transaction
+            assertThat(currentUrl()).isEqualTo(url);
+            return url;
+        }
+
+        @Transactional
+        public String readWriteThenReadOnly() {
+            currentUrl();
+            // The transaction already uses the primary datasource, so it is not routed to a replica
+            return self.readOnly();
+        }
+
+        @Transactional
+        public void persist(String name) {
+            session.persist(new MyEntity(name));
+        }
+
+        @Transactional
+        public String persistThenReadOnly(String name) {
+            session.persist(new MyEntity(name));
+            return self.readOnly();
+        }
+
+        @Transactional
+        public long count() {
+            return session.createSelectionQuery("select count(*) from MyEntity", Long.class).getSingleResult();
+        }
+
+        private String currentUrl() {
+            return session.doReturningWork(connection -> connection.getMetaData().getURL());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.quarkus.hibernate.orm;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * Marks the current transaction as read-only,
+ * so that Hibernate ORM persistence units with read replica datasources
+ * (see {@code quarkus.hibernate-orm.read-replica-datasources})
+ * acquire the connections of the whole transaction from one of the replicas.
+ * <p>
+ * This annotation is meant to be used together with {@link jakarta.transaction.Transactional}.
+ * It only has an effect if the transaction is started by the invocation of the annotated method:
+ * a transaction joined by the invocation is left as is, since it may already have written data.
+ * <p>
+ * See the reference documentation for more information.
+ */
+@InterceptorBinding
+@Target({ TYPE, METHOD })
+@Retention(RUNTIME)
+@Documented
+@Inherited
+public @interface ReadOnly {
+}
@@ -2,9 +2,11 @@
 
 import static io.quarkus.hibernate.orm.runtime.HibernateOrmRuntimeConfigPersistenceUnit.HibernateGenerationStrategy.getString;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -30,6 +32,7 @@
 import org.hibernate.service.internal.ProvidedService;
 import org.jboss.logging.Logger;
 
+import io.agroal.api.AgroalDataSource;
 import io.quarkus.agroal.runtime.AgroalDataSourceUtil;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ClientProxy;
@@ -38,7 +41,9 @@
 import io.quarkus.hibernate.orm.runtime.boot.FastBootEntityManagerFactoryBuilder;
 import io.quarkus.hibernate.orm.runtime.boot.QuarkusPersistenceUnitDescriptor;
 import io.quarkus.hibernate.orm.runtime.boot.registry.PreconfiguredServiceRegistryBuilder;
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusCacheRegionFactory;
 import io.quarkus.hibernate.orm.runtime.config.DatabaseOrmCompatibilityVersion;
+import io.quarkus.hibernate.orm.runtime.customized.QuarkusReadReplicaConnectionProvider;
 import io.quarkus.hibernate.orm.runtime.integration.HibernateOrmIntegrationRuntimeDescriptor;
 import io.quarkus.hibernate.orm.runtime.integration.HibernateOrmIntegrationRuntimeInitListener;
 import io.quarkus.hibernate.orm.runtime.migration.MultiTenancyStrategy;
@@ -248,6 +253,8 @@ private RuntimeSettings buildRuntimeSettings(String persistenceUnitName, Recorde
         // Inject runtime configuration if the persistence unit was defined by Quarkus configuration
         if (!recordedState.isFromPersistenceXml()) {
             injectRuntimeConfiguration(persistenceUnitConfig, runtimeSettingsBuilder);
+            injectReadReplicaDataSources(persistenceUnitName, persistenceUnitConfig, runtimeSettingsBuilder);
+            injectQuarkusCacheRegions(persistenceUnitName, persistenceUnitConfig, runtimeSettingsBuilder);
         }
 
         for (HibernateOrmIntegrationRuntimeDescriptor descriptor : integrationRuntimeDescriptors
@@ -476,6 +483,52 @@ private static void injectDataSource(String persistenceUnitName, String dataSour
         runtimeSettingsBuilder.put(AvailableSettings.DATASOURCE, dataSource);
     }
 
+    private static void injectReadReplicaDataSources(String persistenceUnitName,
+            HibernateOrmRuntimeConfigPersistenceUnit persistenceUnitConfig, Builder runtimeSettingsBuilder) {
+        List<String> replicaNames = persistenceUnitConfig.readReplicaDatasources().orElse(List.of());
+        if (replicaNames.isEmpty()) {
+            return;
+        }
+        if (!(runtimeSettingsBuilder.get(AvailableSettings.DATASOURCE) instanceof AgroalDataSource)) {
+            throw new PersistenceException(String.format(Locale.ROOT,
+                    "Unable to use read replica datasources %s for persistence unit '%s':"
+                            + " read replicas require the persistence unit to use a single Quarkus datasource,"
+                            + " without database or schema multi-tenancy.",
+                    replicaNames, persistenceUnitName));
+        }
+        List<AgroalDataSource> replicas = new ArrayList<>(replicaNames.size());
+        for (String replicaName : replicaNames) {
+            try {
+                // ClientProxy.unwrap is necessary to trigger exceptions on inactive datasources
+                replicas.add(ClientProxy.unwrap(AgroalDataSourceUtil.dataSourceInstance(replicaName).get()));
+            } catch (RuntimeException e) {
+                throw PersistenceUnitUtil.unableToFindDataSource(persistenceUnitName, replicaName, e);
+            }
+        }
+        runtimeSettingsBuilder.put(QuarkusReadReplicaConnectionProvider.READ_REPLICA_DATASOURCES, replicas);
+    }
+
+    private static void injectQuarkusCacheRegions(String persistenceUnitName,
+            HibernateOrmRuntimeConfigPersistenceUnit persistenceUnitConfig, Builder runtimeSettingsBuilder) {
+        Set<String> regions = new HashSet<>();
+        for (var region : persistenceUnitConfig.secondLevelCache().regions().entrySet()) {
+            if (region.getValue().quarkusCache()) {
+                regions.add(region.getKey());
+            }
+        }
+        if (regions.isEmpty()) {
+            return;
+        }
+        if (!QuarkusCacheRegionFactory.isQuarkusCacheAvailable()) {
+            throw new PersistenceException(String.format(Locale.ROOT,
+                    "Unable to store the second-level cache regions %s of persistence unit '%s' in the Quarkus Cache:"
+                            + " the quarkus-cache extension is missing.",
+                    regions, persistenceUnitName));
+        }
+        runtimeSettingsBuilder.put(QuarkusCacheRegionFactory.QUARKUS_CACHE_REGIONS, regions);
+        runtimeSettingsBuilder.put(QuarkusCacheRegionFactory.PERSISTENCE_UNIT_NAME, persistenceUnitName);
+    }
+
     private static void injectRuntimeConfiguration(HibernateOrmRuntimeConfigPersistenceUnit persistenceUnitConfig,
             Builder runtimeSettingsBuilder) {
 
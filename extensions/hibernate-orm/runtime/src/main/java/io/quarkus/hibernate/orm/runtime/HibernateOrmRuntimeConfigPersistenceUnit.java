@@ -1,5 +1,6 @@
 package io.quarkus.hibernate.orm.runtime;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -33,6 +34,20 @@ public interface HibernateOrmRuntimeConfigPersistenceUnit {
     @ConfigDocDefault("`true` if Hibernate ORM is enabled and there are entity types or an active datasource assigned to the persistence unit; `false` otherwise")
     Optional<Boolean> active();
 
+    /**
+     * The names of the datasources to use as read replicas of the datasource of this persistence unit.
+     *
+     * Transactions marked with `@io.quarkus.hibernate.orm.ReadOnly`
+     * acquire their connections from one of these datasources, selected in a round-robin fashion,
+     * and fall back to the datasource of the persistence unit if no replica is available.
+     * Other transactions always use the datasource of the persistence unit.
+     *
+     * See xref:hibernate-orm.adoc#read-replicas[this section of the documentation].
+     *
+     * @asciidoclet
+     */
+    Optional<List<@WithConverter(TrimmedStringConverter.class) String>> readReplicaDatasources();
+
     /**
      * Schema management configuration.
      */
@@ -63,6 +78,12 @@ public interface HibernateOrmRuntimeConfigPersistenceUnit {
     @ConfigDocSection
     HibernateOrmConfigPersistenceUnitFlush flush();
 
+    /**
+     * Second-level cache configuration.
+     */
+    @ConfigDocSection
+    HibernateOrmConfigPersistenceUnitSecondLevelCache secondLevelCache();
+
     /**
      * Properties that should be passed on directly to Hibernate ORM.
      * Use the full configuration property key here,
@@ -334,6 +355,43 @@ interface HibernateOrmConfigPersistenceUnitLog {
 
     }
 
+    @ConfigGroup
+    interface HibernateOrmConfigPersistenceUnitSecondLevelCache {
+
+        /**
+         * Configuration of the second-level cache regions, by region name.
+         *
+         * The region name of an entity is its fully qualified class name, unless set explicitly through `@Cache(region = ...)`.
+         * The query results and timestamps regions are named `default-query-results-region`
+         * and `default-update-timestamps-region`.
+         *
+         * @asciidoclet
+         */
+        @ConfigDocMapKey("region-name")
+        @WithName("region")
+        Map<String, HibernateOrmConfigPersistenceUnitSecondLevelCacheRegion> regions();
+
+    }
+
+    @ConfigGroup
+    interface HibernateOrmConfigPersistenceUnitSecondLevelCacheRegion {
+
+        /**
+         * Whether this region is stored in the `hibernate-orm` cache of the Quarkus Cache extension,
+         * instead of the local second-level cache.
+         *
+         * With the `quarkus-redis-cache` extension, the region is shared between all the instances of the application.
+         * This requires the `quarkus-cache` extension, and is not supported by Hibernate Reactive.
+         *
+         * See xref:hibernate-orm.adoc#second-level-cache-quarkus-cache[this section of the documentation].
+         *
+         * @asciidoclet
+         */
+        @WithDefault("false")
+        boolean quarkusCache();
+
+    }
+
     @ConfigGroup
     interface HibernateOrmConfigPersistenceUnitFlush {
         /**
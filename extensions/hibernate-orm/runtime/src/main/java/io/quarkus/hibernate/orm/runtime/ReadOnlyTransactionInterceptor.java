@@ -0,0 +1,37 @@
+package io.quarkus.hibernate.orm.runtime;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import io.quarkus.hibernate.orm.ReadOnly;
+import io.quarkus.hibernate.orm.runtime.customized.QuarkusReadReplicaConnectionProvider;
+
+/**
+ * Marks the current transaction as read-only for {@link QuarkusReadReplicaConnectionProvider}.
+ * <p>
+ * Runs right after the {@code @Transactional} interceptors, so that the transaction has already begun.
+ * A transaction that was active before the invocation, see {@link ReadOnlyTransactionKeyInterceptor},
+ * is joined by the invocation and is therefore not marked.
+ */
+@ReadOnly
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 210)
+public class ReadOnlyTransactionInterceptor {
+
+    @Inject
+    TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    @AroundInvoke
+    public Object intercept(InvocationContext context) throws Exception {
+        Object transactionKey = transactionSynchronizationRegistry.getTransactionKey();
+        Object outerTransactionKey = context.getContextData().get(ReadOnlyTransactionKeyInterceptor.OUTER_TRANSACTION_KEY);
+        if (transactionKey != null && !transactionKey.equals(outerTransactionKey)) {
+            QuarkusReadReplicaConnectionProvider.markReadOnly(transactionSynchronizationRegistry);
+        }
+        return context.proceed();
+    }
+}
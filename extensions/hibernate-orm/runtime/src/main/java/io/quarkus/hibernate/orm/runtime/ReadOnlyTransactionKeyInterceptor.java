@@ -0,0 +1,34 @@
+package io.quarkus.hibernate.orm.runtime;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import io.quarkus.hibernate.orm.ReadOnly;
+
+/**
+ * Records the transaction active before the {@code @Transactional} interceptors run,
+ * so that {@link ReadOnlyTransactionInterceptor} only marks the transactions started by a {@link ReadOnly} invocation.
+ */
+@ReadOnly
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 190)
+public class ReadOnlyTransactionKeyInterceptor {
+
+    static final String OUTER_TRANSACTION_KEY = ReadOnlyTransactionKeyInterceptor.class.getName() + ".outerTransactionKey";
+
+    @Inject
+    TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    @AroundInvoke
+    public Object intercept(InvocationContext context) throws Exception {
+        Object transactionKey = transactionSynchronizationRegistry.getTransactionKey();
+        if (transactionKey != null) {
+            context.getContextData().put(OUTER_TRANSACTION_KEY, transactionKey);
+        }
+        return context.proceed();
+    }
+}
@@ -2,6 +2,7 @@
 
 import java.io.Serializable;
 import java.security.NoSuchAlgorithmException;
+import java.util.List;
 
 import javax.sql.DataSource;
 
@@ -41,6 +42,7 @@
 import io.quarkus.hibernate.orm.runtime.migration.MultiTenancyStrategy;
 import io.quarkus.hibernate.orm.runtime.observers.QuarkusSessionFactoryObserverForDbVersionCheck;
 import io.quarkus.hibernate.orm.runtime.observers.SessionFactoryObserverForNamedQueryValidation;
+import io.quarkus.hibernate.orm.runtime.observers.SessionFactoryObserverForRepositoryQueries;
 import io.quarkus.hibernate.orm.runtime.observers.SessionFactoryObserverForSchemaExport;
 import io.quarkus.hibernate.orm.runtime.recording.PrevalidatedQuarkusMetadata;
 import io.quarkus.hibernate.orm.runtime.tenant.HibernateCurrentTenantIdentifierResolver;
@@ -168,6 +170,14 @@ protected void populate(String persistenceUnitName, SessionFactoryOptionsBuilder
         //New in ORM 6.2:
         options.addSessionFactoryObservers(new SessionFactoryObserverForNamedQueryValidation(metadata));
 
+        // Named queries are interpreted by the validation above, repository queries are not
+        @SuppressWarnings("unchecked")
+        final List<RepositoryQuery> repositoryQueries = (List<RepositoryQuery>) runtimeSettings
+                .get(SessionFactoryObserverForRepositoryQueries.REPOSITORY_QUERIES);
+        if (repositoryQueries != null) {
+            options.addSessionFactoryObservers(new SessionFactoryObserverForRepositoryQueries(repositoryQueries));
+        }
+
         // We should avoid running schema migrations multiple times
         if (shouldApplySchemaMigration) {
             options.addSessionFactoryObservers(new SessionFactoryObserverForSchemaExport(metadata));
@@ -74,6 +74,7 @@
 import io.quarkus.hibernate.orm.runtime.integration.HibernateOrmIntegrationStaticDescriptor;
 import io.quarkus.hibernate.orm.runtime.integration.HibernateOrmIntegrationStaticInitListener;
 import io.quarkus.hibernate.orm.runtime.migration.MultiTenancyStrategy;
+import io.quarkus.hibernate.orm.runtime.observers.SessionFactoryObserverForRepositoryQueries;
 import io.quarkus.hibernate.orm.runtime.proxies.PreGeneratedProxies;
 import io.quarkus.hibernate.orm.runtime.proxies.ProxyDefinitions;
 import io.quarkus.hibernate.orm.runtime.recording.PrevalidatedQuarkusMetadata;
@@ -415,6 +416,10 @@ private MergedSettings mergeSettings(QuarkusPersistenceUnitDefinition puDefiniti
             cfg.put(AvailableSettings.XML_FORMAT_MAPPER, puDefinition.getXmlMapperCreator().get().create());
         }
 
+        if (!puDefinition.getRepositoryQueries().isEmpty()) {
+            cfg.put(SessionFactoryObserverForRepositoryQueries.REPOSITORY_QUERIES, puDefinition.getRepositoryQueries());
+        }
+
         return mergedSettings;
     }
 
@@ -24,6 +24,7 @@ public final class QuarkusPersistenceUnitDefinition {
     private final Optional<FormatMapperKind> jsonMapperCreator;
     private final Optional<FormatMapperKind> xmlMapperCreator;
     private final List<HibernateOrmIntegrationStaticDescriptor> integrationStaticDescriptors;
+    private final List<RepositoryQuery> repositoryQueries;
 
     @RecordableConstructor
     public QuarkusPersistenceUnitDefinition(QuarkusPersistenceUnitDescriptor persistenceUnitDescriptor,
@@ -33,7 +34,8 @@ public QuarkusPersistenceUnitDefinition(QuarkusPersistenceUnitDescriptor persist
             boolean hibernateValidatorPresent,
             Optional<FormatMapperKind> jsonMapperCreator,
             Optional<FormatMapperKind> xmlMapperCreator,
-            List<HibernateOrmIntegrationStaticDescriptor> integrationStaticDescriptors) {
+            List<HibernateOrmIntegrationStaticDescriptor> integrationStaticDescriptors,
+            List<RepositoryQuery> repositoryQueries) {
         Objects.requireNonNull(persistenceUnitDescriptor);
         Objects.requireNonNull(config);
         this.persistenceUnitDescriptor = persistenceUnitDescriptor;
@@ -44,6 +46,7 @@ public QuarkusPersistenceUnitDefinition(QuarkusPersistenceUnitDescriptor persist
         this.jsonMapperCreator = jsonMapperCreator;
         this.xmlMapperCreator = xmlMapperCreator;
         this.integrationStaticDescriptors = integrationStaticDescriptors;
+        this.repositoryQueries = repositoryQueries;
     }
 
     public QuarkusPersistenceUnitDescriptor getPersistenceUnitDescriptor() {
@@ -87,4 +90,8 @@ public List<HibernateOrmIntegrationStaticDescriptor> getIntegrationStaticDescrip
         return integrationStaticDescriptors;
     }
 
+    public List<RepositoryQuery> getRepositoryQueries() {
+        return repositoryQueries;
+    }
+
 }
@@ -0,0 +1,37 @@
+package io.quarkus.hibernate.orm.runtime.boot;
+
+import io.quarkus.runtime.annotations.RecordableConstructor;
+
+/**
+ * A query executed by a repository implementation generated by the Hibernate Processor,
+ * collected at build time so that its interpretation can be cached on startup.
+ */
+public final class RepositoryQuery {
+
+    private final String query;
+    // The name of the result type passed along with the query, as expected by Class.forName() or a primitive name;
+    // null for an untyped query
+    private final String resultTypeName;
+
+    @RecordableConstructor
+    public RepositoryQuery(String query, String resultTypeName) {
+        this.query = query;
+        this.resultTypeName = resultTypeName;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public String getResultTypeName() {
+        return resultTypeName;
+    }
+
+    @Override
+    public String toString() {
+        return "RepositoryQuery{" +
+                "query='" + query + '\'' +
+                ", resultTypeName='" + resultTypeName + '\'' +
+                '}';
+    }
+}
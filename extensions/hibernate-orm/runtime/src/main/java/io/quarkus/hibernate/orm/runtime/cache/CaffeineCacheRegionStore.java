@@ -0,0 +1,43 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.quarkus.cache.CaffeineCache;
+
+/**
+ * Stores the entries of the second-level cache regions in a local Caffeine cache, as they are.
+ */
+final class CaffeineCacheRegionStore extends QuarkusCacheRegionStore {
+
+    private final CaffeineCache cache;
+
+    CaffeineCacheRegionStore(CaffeineCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    Object get(String region, Object key) {
+        CompletableFuture<Object> value = cache.getIfPresent(new RegionKey(region, key));
+        // The values are always put as completed futures
+        return value == null ? null : value.join();
+    }
+
+    @Override
+    void put(String region, Object key, Object value) {
+        cache.put(new RegionKey(region, key), CompletableFuture.completedFuture(value));
+    }
+
+    @Override
+    void remove(String region, Object key) {
+        cache.invalidate(new RegionKey(region, key)).await().indefinitely();
+    }
+
+    @Override
+    void removeAll(String region) {
+        cache.invalidateIf(key -> key instanceof RegionKey regionKey && regionKey.region().equals(region))
+                .await().indefinitely();
+    }
+
+    private record RegionKey(String region, Object key) {
+    }
+}
@@ -0,0 +1,166 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.CacheTransactionSynchronization;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheManager;
+
+/**
+ * A region factory storing some regions of the second-level cache in the Quarkus Cache,
+ * and the other regions in the local second-level cache.
+ * <p>
+ * The regions are stored in the {@value #CACHE_NAME} cache, whatever its backend:
+ * with the Redis backend, they are shared between all the instances of the application.
+ * There is no near cache in front of a shared region: each access goes to the Quarkus Cache,
+ * so that an update performed by an instance is immediately visible to the other ones without invalidation messages.
+ * <p>
+ * The timestamps used to lock the entries come from the local region factory, for all the regions.
+ */
+public class QuarkusCacheRegionFactory extends RegionFactoryTemplate {
+
+    /**
+     * The name of the Quarkus cache holding the regions.
+     */
+    public static final String CACHE_NAME = "hibernate-orm";
+
+    /**
+     * The setting holding the {@link Set} of the names of the regions stored in the Quarkus Cache.
+     */
+    public static final String QUARKUS_CACHE_REGIONS = "quarkus.hibernate-orm.second-level-cache.quarkus-cache-regions";
+
+    /**
+     * The setting holding the name of the persistence unit, which qualifies its regions in the Quarkus Cache.
+     */
+    public static final String PERSISTENCE_UNIT_NAME = "quarkus.hibernate-orm.second-level-cache.persistence-unit-name";
+
+    private final Set<String> quarkusCacheRegions;
+    private final String persistenceUnitName;
+    private final RegionFactory localRegionFactory;
+    private volatile QuarkusCacheRegionStore store;
+
+    public QuarkusCacheRegionFactory(Set<String> quarkusCacheRegions, String persistenceUnitName,
+            RegionFactory localRegionFactory) {
+        this.quarkusCacheRegions = Set.copyOf(quarkusCacheRegions);
+        this.persistenceUnitName = persistenceUnitName;
+        this.localRegionFactory = localRegionFactory;
+    }
+
+    /**
+     * @return whether the classes of the Quarkus Cache, required by this region factory, are available.
+     */
+    public static boolean isQuarkusCacheAvailable() {
+        try {
+            Class.forName("io.quarkus.cache.CacheManager", false, Thread.currentThread().getContextClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+        localRegionFactory.start(settings, configValues);
+        Cache cache = Arc.container().instance(CacheManager.class).get().getCache(CACHE_NAME)
+                .orElseThrow(() -> new CacheException("Unable to find the Quarkus cache '" + CACHE_NAME
+                        + "' storing the second-level cache regions " + quarkusCacheRegions));
+        store = QuarkusCacheRegionStore.of(cache);
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        // The Quarkus cache is managed by the Quarkus Cache extension and outlives the persistence unit
+        store = null;
+        localRegionFactory.stop();
+    }
+
+    @Override
+    public DomainDataRegion buildDomainDataRegion(DomainDataRegionConfig regionConfig,
+            DomainDataRegionBuildingContext buildingContext) {
+        if (quarkusCacheRegions.contains(regionConfig.getRegionName())) {
+            return super.buildDomainDataRegion(regionConfig, buildingContext);
+        }
+        return localRegionFactory.buildDomainDataRegion(regionConfig, buildingContext);
+    }
+
+    @Override
+    public QueryResultsRegion buildQueryResultsRegion(String regionName, SessionFactoryImplementor sessionFactory) {
+        if (quarkusCacheRegions.contains(regionName)) {
+            return super.buildQueryResultsRegion(regionName, sessionFactory);
+        }
+        return localRegionFactory.buildQueryResultsRegion(regionName, sessionFactory);
+    }
+
+    @Override
+    public TimestampsRegion buildTimestampsRegion(String regionName, SessionFactoryImplementor sessionFactory) {
+        if (quarkusCacheRegions.contains(regionName)) {
+            return super.buildTimestampsRegion(regionName, sessionFactory);
+        }
+        return localRegionFactory.buildTimestampsRegion(regionName, sessionFactory);
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+            DomainDataRegionBuildingContext buildingContext) {
+        return createStorageAccess(regionConfig.getRegionName());
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+            SessionFactoryImplementor sessionFactory) {
+        return createStorageAccess(regionName);
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName,
+            SessionFactoryImplementor sessionFactory) {
+        return createStorageAccess(regionName);
+    }
+
+    private QuarkusCacheStorageAccess createStorageAccess(String regionName) {
+        // The persistence units share the Quarkus cache, and may have regions with the same name
+        return new QuarkusCacheStorageAccess(store, persistenceUnitName + ":" + regionName);
+    }
+
+    @Override
+    public boolean isMinimalPutsEnabledByDefault() {
+        return localRegionFactory.isMinimalPutsEnabledByDefault();
+    }
+
+    @Override
+    public AccessType getDefaultAccessType() {
+        return localRegionFactory.getDefaultAccessType();
+    }
+
+    @Override
+    public long nextTimestamp() {
+        return localRegionFactory.nextTimestamp();
+    }
+
+    @Override
+    public long getTimeout() {
+        return localRegionFactory.getTimeout();
+    }
+
+    @Override
+    public CacheTransactionSynchronization createTransactionContext(SharedSessionContractImplementor session) {
+        return localRegionFactory.createTransactionContext(session);
+    }
+}
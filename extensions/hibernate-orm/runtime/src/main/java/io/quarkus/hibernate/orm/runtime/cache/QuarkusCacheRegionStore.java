@@ -0,0 +1,50 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import org.hibernate.cache.CacheException;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CaffeineCache;
+
+/**
+ * Stores the entries of the second-level cache regions in a Quarkus cache, through the typed API of its backend:
+ * the generic {@link Cache} API cannot read or write an entry without a value loader.
+ * <p>
+ * The operations block until the backend completes them, as Hibernate ORM expects.
+ */
+abstract class QuarkusCacheRegionStore {
+
+    private static final String REDIS_CACHE_CLASS_NAME = "io.quarkus.cache.redis.runtime.RedisCache";
+
+    static QuarkusCacheRegionStore of(Cache cache) {
+        // The Redis backend is an optional dependency
+        if (isRedisCacheAvailable() && RedisCacheRegionStore.supports(cache)) {
+            return new RedisCacheRegionStore(cache);
+        }
+        if (cache instanceof CaffeineCache) {
+            return new CaffeineCacheRegionStore(cache.as(CaffeineCache.class));
+        }
+        throw new CacheException("The Quarkus cache '" + cache.getName() + "' of type " + cache.getClass().getName()
+                + " cannot store second-level cache regions: only the Caffeine and Redis backends are supported");
+    }
+
+    private static boolean isRedisCacheAvailable() {
+        try {
+            Class.forName(REDIS_CACHE_CLASS_NAME, false, QuarkusCacheRegionStore.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return the value of the given key in the given region, or {@code null} if it is not cached.
+     */
+    abstract Object get(String region, Object key);
+
+    abstract void put(String region, Object key, Object value);
+
+    abstract void remove(String region, Object key);
+
+    abstract void removeAll(String region);
+
+}
@@ -0,0 +1,48 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * The storage of a second-level cache region in the Quarkus Cache.
+ */
+final class QuarkusCacheStorageAccess implements DomainDataStorageAccess {
+
+    private final QuarkusCacheRegionStore store;
+    private final String region;
+
+    QuarkusCacheStorageAccess(QuarkusCacheRegionStore store, String region) {
+        this.store = store;
+        this.region = region;
+    }
+
+    @Override
+    public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+        return store.get(region, key);
+    }
+
+    @Override
+    public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+        store.put(region, key, value);
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        return store.get(region, key) != null;
+    }
+
+    @Override
+    public void evictData() {
+        store.removeAll(region);
+    }
+
+    @Override
+    public void evictData(Object key) {
+        store.remove(region, key);
+    }
+
+    @Override
+    public void release() {
+        // The entries are left in the Quarkus cache, to be used by the other instances or after a restart
+    }
+}
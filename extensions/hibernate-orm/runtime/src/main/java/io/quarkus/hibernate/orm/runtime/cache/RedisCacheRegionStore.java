@@ -0,0 +1,64 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import java.io.Serializable;
+import java.util.Base64;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.internal.util.SerializationHelper;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.redis.runtime.RedisCache;
+
+/**
+ * Stores the entries of the second-level cache regions in Redis, shared between the instances of the application.
+ * <p>
+ * The keys and values are serialized with Java serialization, as Hibernate ORM cache keys and entries are
+ * {@link Serializable}: the Redis server must therefore only be writable by trusted clients.
+ * The keys are stored as strings, so the cache must keep the default {@code String} key type.
+ */
+final class RedisCacheRegionStore extends QuarkusCacheRegionStore {
+
+    private final RedisCache cache;
+
+    RedisCacheRegionStore(Cache cache) {
+        this.cache = cache.as(RedisCache.class);
+    }
+
+    static boolean supports(Cache cache) {
+        return cache instanceof RedisCache;
+    }
+
+    @Override
+    Object get(String region, Object key) {
+        byte[] value = cache.<String, byte[]> getOrNull(redisKey(region, key), byte[].class).await().indefinitely();
+        return value == null ? null : SerializationHelper.deserialize(value, Thread.currentThread().getContextClassLoader());
+    }
+
+    @Override
+    void put(String region, Object key, Object value) {
+        cache.put(redisKey(region, key), serialize(value)).await().indefinitely();
+    }
+
+    @Override
+    void remove(String region, Object key) {
+        cache.invalidate(redisKey(region, key)).await().indefinitely();
+    }
+
+    @Override
+    void removeAll(String region) {
+        String prefix = region + ":";
+        cache.invalidateIf(key -> key instanceof String redisKey && redisKey.startsWith(prefix)).await().indefinitely();
+    }
+
+    private static String redisKey(String region, Object key) {
+        return region + ":" + Base64.getUrlEncoder().withoutPadding().encodeToString(serialize(key));
+    }
+
+    private static byte[] serialize(Object object) {
+        if (!(object instanceof Serializable serializable)) {
+            throw new CacheException("Unable to store " + object.getClass().getName()
+                    + " in the Redis cache: it does not implement java.io.Serializable");
+        }
+        return SerializationHelper.serialize(serializable);
+    }
+}
@@ -0,0 +1,91 @@
+package io.quarkus.hibernate.orm.runtime.customized;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import org.jboss.logging.Logger;
+
+import io.agroal.api.AgroalDataSource;
+
+/**
+ * A connection provider routing read-only transactions to read replicas of the primary datasource.
+ * <p>
+ * A transaction is read-only when it was marked as such through {@link #markReadOnly(TransactionSynchronizationRegistry)}
+ * before acquiring its first connection.
+ * The datasource selected for a transaction is kept for the whole transaction,
+ * so that a single connection is enlisted in it.
+ * Each provider, i.e. each persistence unit, selects its own datasource for the transaction.
+ * Replicas are selected in a round-robin fashion;
+ * if no connection can be acquired from any replica, the primary datasource is used instead.
+ */
+public class QuarkusReadReplicaConnectionProvider extends QuarkusConnectionProvider {
+
+    private static final Logger log = Logger.getLogger(QuarkusReadReplicaConnectionProvider.class);
+
+    /**
+     * The setting holding the {@link List} of read replica {@link AgroalDataSource}s of the persistence unit.
+     */
+    public static final String READ_REPLICA_DATASOURCES = "quarkus.hibernate-orm.read-replica-datasources";
+
+    // The read-only mark applies to the whole transaction, i.e. to all the persistence units
+    private static final String READ_ONLY_KEY = QuarkusReadReplicaConnectionProvider.class.getName() + ".readOnly";
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    private final List<AgroalDataSource> replicas;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    // The key of the datasource selected by this provider for the current transaction
+    private final String dataSourceKey;
+
+    public QuarkusReadReplicaConnectionProvider(final AgroalDataSource dataSource, final List<AgroalDataSource> replicas) {
+        super(dataSource);
+        this.replicas = List.copyOf(replicas);
+        this.dataSourceKey = QuarkusReadReplicaConnectionProvider.class.getName() + ".dataSource."
+                + INSTANCES.incrementAndGet();
+    }
+
+    public List<AgroalDataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Marks the current transaction, if any, as read-only.
+     * <p>
+     * The mark has no effect on the persistence units that have already acquired a connection in this transaction.
+     */
+    public static void markReadOnly(TransactionSynchronizationRegistry registry) {
+        if (registry.getTransactionKey() != null) {
+            registry.putResource(READ_ONLY_KEY, Boolean.TRUE);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        TransactionSynchronizationRegistry registry = QuarkusJtaPlatform.INSTANCE.retrieveTransactionSynchronizationRegistry();
+        if (registry.getTransactionKey() == null) {
+            return super.getConnection();
+        }
+        AgroalDataSource selected = (AgroalDataSource) registry.getResource(dataSourceKey);
+        if (selected != null) {
+            return selected.getConnection();
+        }
+        if (registry.getResource(READ_ONLY_KEY) != null) {
+            for (int i = 0; i < replicas.size(); i++) {
+                AgroalDataSource replica = replicas.get(Math.floorMod(nextReplica.getAndIncrement(), replicas.size()));
+                try {
+                    Connection connection = replica.getConnection();
+                    registry.putResource(dataSourceKey, replica);
+                    return connection;
+                } catch (SQLException e) {
+                    log.debugf(e, "Unable to acquire a connection from a read replica, trying the next one");
+                }
+            }
+            log.warn("Unable to acquire a connection from any read replica, falling back to the primary datasource");
+        }
+        registry.putResource(dataSourceKey, getDataSource());
+        return super.getConnection();
+    }
+}
@@ -0,0 +1,76 @@
+package io.quarkus.hibernate.orm.runtime.observers;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.spi.QueryEngine;
+import org.jboss.logging.Logger;
+
+import io.quarkus.hibernate.orm.runtime.boot.RepositoryQuery;
+
+/**
+ * Interprets the queries of the repositories on startup,
+ * so that the query interpretation cache is warm when the application serves its first requests.
+ * <p>
+ * A query that cannot be interpreted here is left for its first use, where it will fail with the actual error if invalid.
+ */
+public class SessionFactoryObserverForRepositoryQueries implements SessionFactoryObserver {
+
+    private static final Logger LOG = Logger.getLogger(SessionFactoryObserverForRepositoryQueries.class);
+
+    /**
+     * The setting holding the {@link List} of {@link RepositoryQuery repository queries} of the persistence unit.
+     */
+    public static final String REPOSITORY_QUERIES = "quarkus.hibernate-orm.repository-queries";
+
+    private final List<RepositoryQuery> queries;
+
+    public SessionFactoryObserverForRepositoryQueries(List<RepositoryQuery> queries) {
+        this.queries = queries;
+    }
+
+    @Override
+    public void sessionFactoryCreated(SessionFactory factory) {
+        SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
+        final QueryEngine queryEngine = sessionFactory.getQueryEngine();
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        for (RepositoryQuery query : queries) {
+            try {
+                Class<?> resultType = resultType(query.getResultTypeName(), classLoader);
+                queryEngine.getInterpretationCache().resolveHqlInterpretation(query.getQuery(), resultType,
+                        queryEngine.getHqlTranslator());
+            } catch (ClassNotFoundException | RuntimeException e) {
+                LOG.warnf(e, "Unable to interpret repository query '%s' on startup, it will be interpreted on first use",
+                        query.getQuery());
+            }
+        }
+    }
+
+    private static Class<?> resultType(String name, ClassLoader classLoader) throws ClassNotFoundException {
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "boolean":
+                return boolean.class;
+            case "char":
+                return char.class;
+            case "byte":
+                return byte.class;
+            case "short":
+                return short.class;
+            case "int":
+                return int.class;
+            case "long":
+                return long.class;
+            case "float":
+                return float.class;
+            case "double":
+                return double.class;
+            default:
+                return Class.forName(name, false, classLoader);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.quarkus.hibernate.orm.runtime.service;
 
+import java.util.List;
 import java.util.Map;
 
 import org.hibernate.HibernateException;
@@ -11,6 +12,7 @@
 
 import io.agroal.api.AgroalDataSource;
 import io.quarkus.hibernate.orm.runtime.customized.QuarkusConnectionProvider;
+import io.quarkus.hibernate.orm.runtime.customized.QuarkusReadReplicaConnectionProvider;
 import io.quarkus.hibernate.orm.runtime.migration.MultiTenancyStrategy;
 
 public final class QuarkusConnectionProviderInitiator implements StandardServiceInitiator<ConnectionProvider> {
@@ -41,6 +43,10 @@ public ConnectionProvider initiateService(Map configurationValues, ServiceRegist
                 throw new HibernateException(
                         "A Datasource was configured as Connection Pool, but it's not the Agroal connection pool. In Quarkus, you need to use Agroal.");
             }
+            Object replicas = configurationValues.get(QuarkusReadReplicaConnectionProvider.READ_REPLICA_DATASOURCES);
+            if (replicas instanceof List<?> replicaList && !replicaList.isEmpty()) {
+                return new QuarkusReadReplicaConnectionProvider(ds, (List<AgroalDataSource>) replicaList);
+            }
             return new QuarkusConnectionProvider(ds);
         }
 
@@ -3,6 +3,7 @@
 import static java.lang.Boolean.FALSE;
 
 import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.boot.registry.StandardServiceInitiator;
 import org.hibernate.cache.internal.NoCachingRegionFactory;
@@ -12,6 +13,8 @@
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.infinispan.quarkus.hibernate.cache.QuarkusInfinispanRegionFactory;
 
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusCacheRegionFactory;
+
 public final class QuarkusRegionFactoryInitiator implements StandardServiceInitiator<RegionFactory> {
 
     public static final QuarkusRegionFactoryInitiator INSTANCE = new QuarkusRegionFactoryInitiator();
@@ -44,6 +47,13 @@ public RegionFactory initiateService(Map configurationValues, ServiceRegistryImp
             }
         }
 
+        Object quarkusCacheRegions = configurationValues.get(QuarkusCacheRegionFactory.QUARKUS_CACHE_REGIONS);
+        if (quarkusCacheRegions instanceof Set<?> regions && !regions.isEmpty()) {
+            return new QuarkusCacheRegionFactory((Set<String>) regions,
+                    (String) configurationValues.get(QuarkusCacheRegionFactory.PERSISTENCE_UNIT_NAME),
+                    new QuarkusInfinispanRegionFactory());
+        }
+
         return new QuarkusInfinispanRegionFactory();
     }
 
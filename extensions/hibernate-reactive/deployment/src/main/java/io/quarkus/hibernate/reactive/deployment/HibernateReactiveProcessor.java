@@ -17,12 +17,14 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Properties;
 import java.util.Set;
 import java.util.logging.Level;
 
 import jakarta.persistence.PersistenceUnitTransactionType;
 
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.reactive.provider.impl.ReactiveIntegrator;
 import org.jboss.logging.Logger;
 
@@ -371,6 +373,14 @@ private static QuarkusPersistenceUnitDescriptorWithSupportedDBKind generateReact
                 descriptor.getProperties()::setProperty);
 
         configureProperties(descriptor, persistenceUnitConfig, hibernateOrmConfig, true);
+        // With statement batching, order inserts by entity type so that consecutive inserts can be sent in a single batch,
+        // instead of one round trip per statement; unless the user already decided otherwise
+        // (a batch size of 0 or 1 disables batching)
+        OptionalInt statementBatchSize = persistenceUnitConfig.jdbc().statementBatchSize();
+        if (statementBatchSize.isPresent() && statementBatchSize.getAsInt() > 1
+                && !persistenceUnitConfig.unsupportedProperties().containsKey(AvailableSettings.ORDER_INSERTS)) {
+            descriptor.getProperties().setProperty(AvailableSettings.ORDER_INSERTS, Boolean.TRUE.toString());
+        }
         configureSqlLoadScript(persistenceUnitName, persistenceUnitConfig, applicationArchivesBuildItem, launchMode,
                 additionalSqlLoadScriptDefaults,
                 nativeImageResources, hotDeploymentWatchedFiles, descriptor);
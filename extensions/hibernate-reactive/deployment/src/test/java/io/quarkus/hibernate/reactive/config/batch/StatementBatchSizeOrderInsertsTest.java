@@ -0,0 +1,44 @@
+package io.quarkus.hibernate.reactive.config.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.lang.reflect.Field;
+
+import jakarta.inject.Inject;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.hibernate.reactive.mutiny.impl.MutinySessionFactoryImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.hibernate.reactive.config.MyEntity;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StatementBatchSizeOrderInsertsTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClass(MyEntity.class))
+            .withConfigurationResource("application.properties")
+            .overrideConfigKey("quarkus.hibernate-orm.jdbc.statement-batch-size", "10");
+
+    @Inject
+    Mutiny.SessionFactory sessionFactory;
+
+    @Test
+    public void testOrderInsertsEnabled() throws IllegalAccessException, NoSuchFieldException {
+        Field field = MutinySessionFactoryImpl.class.getDeclaredField("delegate");
+        field.setAccessible(true);
+        SessionFactory ormSessionFactory = (SessionFactory) field.get(ClientProxy.unwrap(sessionFactory));
+
+        assertThat(ormSessionFactory.getProperties())
+                .contains(entry(AvailableSettings.STATEMENT_BATCH_SIZE, "10"),
+                        entry(AvailableSettings.ORDER_INSERTS, "true"));
+    }
+
+}
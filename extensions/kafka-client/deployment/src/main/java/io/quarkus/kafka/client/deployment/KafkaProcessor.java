@@ -298,6 +298,19 @@ public void build(
                     .build());
         }
 
+        // The deserializers reading the record buffer directly look up the deserialize methods of their subclasses
+        // The deserializers generated by the messaging extension are registered where they are generated
+        final Set<DotName> byteBufferDeserializers = new HashSet<>();
+        byteBufferDeserializers.add(DotName.createSimple(ObjectMapperDeserializer.class.getName()));
+        byteBufferDeserializers.add(DotName.createSimple(Deserializer.class.getName()));
+        collectSubclasses(byteBufferDeserializers, indexBuildItem, ObjectMapperDeserializer.class);
+        for (DotName s : byteBufferDeserializers) {
+            reflectiveClass.produce(ReflectiveClassBuildItem.builder(s.toString())
+                    .queryMethods()
+                    .reason(getClass().getName() + " record buffer deserialization")
+                    .build());
+        }
+
         // built in partitioner and partition assignors
         reflectiveClass.produce(ReflectiveClassBuildItem.builder(
                 RangeAssignor.class,
@@ -0,0 +1,38 @@
+package io.quarkus.kafka.client.serialization;
+
+import java.nio.ByteBuffer;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * Helpers for the deserializers reading the record {@link ByteBuffer} directly, instead of the {@code byte[]} copy created by
+ * {@link Deserializer#deserialize(String, Headers, ByteBuffer)} by default.
+ */
+final class ByteBufferDeserialization {
+
+    private ByteBufferDeserialization() {
+    }
+
+    /**
+     * A subclass customizing the {@code byte[]} based deserialization must keep being called for every record, so the record
+     * buffer can only be read directly if none of the {@code byte[]} methods is overridden.
+     *
+     * @param clazz the deserializer class
+     * @param base the class declaring {@code deserialize(String, byte[])}
+     * @return {@code true} if the record buffer can be read directly
+     */
+    static boolean isSupported(Class<?> clazz, Class<?> base) {
+        if (clazz == base) {
+            return true;
+        }
+        try {
+            return clazz.getMethod("deserialize", String.class, byte[].class).getDeclaringClass() == base
+                    && clazz.getMethod("deserialize", String.class, Headers.class, byte[].class)
+                            .getDeclaringClass() == Deserializer.class;
+        } catch (NoSuchMethodException | SecurityException e) {
+            return false;
+        }
+    }
+
+}
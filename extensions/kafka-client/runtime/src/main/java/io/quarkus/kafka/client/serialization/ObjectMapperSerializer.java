@@ -1,6 +1,5 @@
 package io.quarkus.kafka.client.serialization;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Map;
 
@@ -40,9 +39,9 @@ public byte[] serialize(String topic, T data) {
             return null;
         }
 
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-            objectMapper.writeValue(output, data);
-            return output.toByteArray();
+        try {
+            // Uses the recycled Jackson buffers instead of a growing ByteArrayOutputStream
+            return objectMapper.writeValueAsBytes(data);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -1,5 +1,6 @@
 package io.quarkus.kafka.client.serialization;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -21,4 +22,12 @@ void shouldSerializeNullAsNull() {
         byte[] result = serializer.serialize("topic", null);
         assertNull(result);
     }
+
+    @Test
+    void shouldSerializeBufferContentOnly() {
+        BufferSerializer serializer = new BufferSerializer();
+        Buffer buffer = Buffer.buffer(64).appendString("some-bytes");
+        assertArrayEquals("some-bytes".getBytes(), serializer.serialize("topic", buffer));
+        assertArrayEquals("other".getBytes(), serializer.serialize("topic", Buffer.buffer("other".getBytes())));
+    }
 }
@@ -5,8 +5,11 @@
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
+import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.junit.jupiter.api.Test;
 
 import io.vertx.core.json.DecodeException;
@@ -35,4 +38,14 @@ void shouldDeserializeNullAsNull() {
         JsonObject actual = deserializer.deserialize("topic", null);
         assertNull(actual);
     }
+
+    @Test
+    void shouldDeserializeEntityFromRecordBuffer() {
+        JsonObject expected = new JsonObject(Map.of("id", 1, "name", "entity1"));
+        JsonObjectDeserializer deserializer = new JsonObjectDeserializer();
+        byte[] bytes = "xx{\"id\":1,\"name\":\"entity1\"}xx".getBytes(StandardCharsets.UTF_8);
+        JsonObject actual = deserializer.deserialize("topic", new RecordHeaders(),
+                ByteBuffer.wrap(bytes, 2, bytes.length - 4).slice());
+        assertEquals(expected, actual);
+    }
 }
@@ -4,8 +4,12 @@
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import org.apache.kafka.common.header.internals.RecordHeaders;
+
 import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -44,4 +48,30 @@ void shouldDeserializeNullAsNull() {
         MyEntity results = deserializer.deserialize("topic", null);
         assertNull(results);
     }
+
+    @Test
+    void shouldDeserializeEntityFromRecordBuffer() {
+        MyEntity expected = new MyEntity(1, "entity1");
+        ObjectMapperDeserializer<MyEntity> deserializer = new ObjectMapperDeserializer<>(MyEntity.class);
+        byte[] bytes = "xx{\"id\":1,\"name\":\"entity1\"}xx".getBytes(StandardCharsets.UTF_8);
+        // A slice of a larger array, like the records of a fetch response
+        ByteBuffer heap = ByteBuffer.wrap(bytes, 2, bytes.length - 4).slice();
+        assertEquals(expected, deserializer.deserialize("topic", new RecordHeaders(), heap));
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length - 4).put(bytes, 2, bytes.length - 4).flip();
+        assertEquals(expected, deserializer.deserialize("topic", new RecordHeaders(), direct));
+        assertNull(deserializer.deserialize("topic", new RecordHeaders(), (ByteBuffer) null));
+    }
+
+    @Test
+    void shouldCallOverriddenByteArrayDeserialization() {
+        ObjectMapperDeserializer<MyEntity> deserializer = new ObjectMapperDeserializer<>(MyEntity.class) {
+            @Override
+            public MyEntity deserialize(String topic, byte[] data) {
+                return new MyEntity(2, new String(data, StandardCharsets.UTF_8));
+            }
+        };
+        MyEntity actual = deserializer.deserialize("topic", new RecordHeaders(),
+                ByteBuffer.wrap("custom".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(new MyEntity(2, "custom"), actual);
+    }
 }
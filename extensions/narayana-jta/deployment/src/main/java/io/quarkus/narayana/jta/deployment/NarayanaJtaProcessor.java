@@ -18,6 +18,7 @@
 import com.arjuna.ats.arjuna.recovery.TransactionStatusConnectionManager;
 import com.arjuna.ats.internal.arjuna.coordinator.CheckedActionFactoryImple;
 import com.arjuna.ats.internal.arjuna.objectstore.ShadowNoFileLockStore;
+import com.arjuna.ats.internal.arjuna.objectstore.hornetq.HornetqJournalEnvironmentBean;
 import com.arjuna.ats.internal.arjuna.objectstore.jdbc.JDBCImple_driver;
 import com.arjuna.ats.internal.arjuna.objectstore.jdbc.JDBCStore;
 import com.arjuna.ats.internal.arjuna.recovery.AtomicActionExpiryScanner;
@@ -46,6 +47,7 @@
 import io.quarkus.arc.deployment.GeneratedBeanGizmoAdaptor;
 import io.quarkus.arc.deployment.SyntheticBeansRuntimeInitBuildItem;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
+import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
 import io.quarkus.datasource.common.runtime.DataSourceUtil;
 import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.Capability;
@@ -140,6 +142,14 @@ public void build(NarayanaJtaRecorder recorder,
                 .publicConstructors()
                 .reason(getClass().getName())
                 .build());
+        if (QuarkusClassLoader.isClassPresentAtRuntime(NarayanaJtaRecorder.ARTEMIS_JOURNAL_CLASS_NAME)) {
+            // the journal object store may be enabled at runtime
+            reflectiveClass.produce(ReflectiveClassBuildItem.builder(NarayanaJtaRecorder.JOURNAL_OBJECT_STORE_CLASS_NAME,
+                    HornetqJournalEnvironmentBean.class.getName())
+                    .publicConstructors()
+                    .reason(getClass().getName())
+                    .build());
+        }
 
         AdditionalBeanBuildItem.Builder builder = AdditionalBeanBuildItem.builder();
         builder.addBeanClass(TransactionalInterceptorSupports.class);
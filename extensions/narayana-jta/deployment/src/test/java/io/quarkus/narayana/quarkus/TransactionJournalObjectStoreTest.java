@@ -0,0 +1,104 @@
+package io.quarkus.narayana.quarkus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.List;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+import jakarta.inject.Inject;
+import jakarta.transaction.TransactionManager;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.arjuna.ats.arjuna.common.ObjectStoreEnvironmentBean;
+import com.arjuna.common.internal.util.propertyservice.BeanPopulator;
+
+import io.quarkus.maven.dependency.Dependency;
+import io.quarkus.narayana.jta.runtime.NarayanaJtaRecorder;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class TransactionJournalObjectStoreTest {
+
+    private static final String OBJECT_STORE_DIRECTORY = "target/journal-object-store";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setForcedDependencies(List.of(
+                    Dependency.of("org.apache.activemq", "artemis-journal", System.getProperty("artemis.version"))))
+            .overrideConfigKey("quarkus.transaction-manager.object-store.type", "journal")
+            .overrideConfigKey("quarkus.transaction-manager.object-store.directory", OBJECT_STORE_DIRECTORY);
+
+    @Inject
+    TransactionManager transactionManager;
+
+    @Test
+    public void testCommitThroughJournal() throws Exception {
+        assertEquals(NarayanaJtaRecorder.JOURNAL_OBJECT_STORE_CLASS_NAME,
+                BeanPopulator.getDefaultInstance(ObjectStoreEnvironmentBean.class).getObjectStoreType());
+
+        transactionManager.begin();
+        // two resources, so that the transaction goes through a two-phase commit and is logged
+        transactionManager.getTransaction().enlistResource(new NoopXAResource());
+        transactionManager.getTransaction().enlistResource(new NoopXAResource());
+        transactionManager.commit();
+
+        File journalDirectory = new File(OBJECT_STORE_DIRECTORY, "HornetqObjectStore");
+        assertTrue(journalDirectory.isDirectory(), "The journal directory should have been created");
+        String[] journalFiles = journalDirectory.list();
+        assertTrue(journalFiles != null && journalFiles.length > 0, "The journal files should have been created");
+    }
+
+    private static class NoopXAResource implements XAResource {
+
+        @Override
+        public void commit(Xid xid, boolean onePhase) throws XAException {
+        }
+
+        @Override
+        public void end(Xid xid, int flags) throws XAException {
+        }
+
+        @Override
+        public void forget(Xid xid) throws XAException {
+        }
+
+        @Override
+        public int getTransactionTimeout() throws XAException {
+            return 0;
+        }
+
+        @Override
+        public boolean isSameRM(XAResource xaResource) throws XAException {
+            return false;
+        }
+
+        @Override
+        public int prepare(Xid xid) throws XAException {
+            return XA_OK;
+        }
+
+        @Override
+        public Xid[] recover(int flag) throws XAException {
+            return new Xid[0];
+        }
+
+        @Override
+        public void rollback(Xid xid) throws XAException {
+        }
+
+        @Override
+        public boolean setTransactionTimeout(int seconds) throws XAException {
+            return false;
+        }
+
+        @Override
+        public void start(Xid xid, int flags) throws XAException {
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package io.quarkus.narayana.quarkus;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.runtime.util.ExceptionUtil;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class TransactionJournalObjectStoreValidationFailureTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .overrideConfigKey("quarkus.transaction-manager.object-store.type", "journal")
+            .assertException(t -> {
+                Throwable rootCause = ExceptionUtil.getRootCause(t);
+                if (rootCause instanceof ConfigurationException) {
+                    assertTrue(rootCause.getMessage().contains(
+                            "The journal object store requires the org.apache.activemq:artemis-journal dependency"));
+                } else {
+                    fail(t);
+                }
+            });
+
+    @Test
+    public void test() {
+        // needs to be there in order to run test
+        Assertions.fail("Application was supposed to fail.");
+    }
+}
@@ -2,6 +2,7 @@
 
 import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
@@ -19,6 +20,7 @@
 import com.arjuna.ats.arjuna.common.arjPropertyManager;
 import com.arjuna.ats.arjuna.coordinator.TransactionReaper;
 import com.arjuna.ats.arjuna.coordinator.TxControl;
+import com.arjuna.ats.internal.arjuna.objectstore.hornetq.HornetqJournalEnvironmentBean;
 import com.arjuna.ats.internal.arjuna.objectstore.jdbc.JDBCStore;
 import com.arjuna.ats.jta.common.JTAEnvironmentBean;
 import com.arjuna.ats.jta.common.jtaPropertyManager;
@@ -40,6 +42,13 @@ public class NarayanaJtaRecorder {
 
     private static final Logger log = Logger.getLogger(NarayanaJtaRecorder.class);
 
+    /**
+     * Referenced by name as the class cannot be loaded unless the ActiveMQ Artemis journal is on the classpath.
+     */
+    public static final String JOURNAL_OBJECT_STORE_CLASS_NAME =
+            "com.arjuna.ats.internal.arjuna.objectstore.hornetq.HornetqObjectStoreAdaptor";
+    public static final String ARTEMIS_JOURNAL_CLASS_NAME = "org.apache.activemq.artemis.core.journal.Journal";
+
     private final RuntimeValue<TransactionManagerConfiguration> transactions;
 
     public NarayanaJtaRecorder(final RuntimeValue<TransactionManagerConfiguration> transactions) {
@@ -117,6 +126,10 @@ public void setConfig() {
             objectStores.forEach(name -> setObjectStoreDir(name, transactions.getValue()));
         } else if (transactions.getValue().objectStore().type().equals(ObjectStoreType.JDBC)) {
             objectStores.forEach(name -> setJDBCObjectStore(name, transactions.getValue()));
+        } else if (transactions.getValue().objectStore().type().equals(ObjectStoreType.Journal)) {
+            // only the transaction logs are written to the journal, the communication and state stores are rarely used
+            objectStores.forEach(name -> setObjectStoreDir(name, transactions.getValue()));
+            setJournalObjectStore(transactions.getValue());
         }
         BeanPopulator.getDefaultInstance(RecoveryEnvironmentBean.class)
                 .setRecoveryModuleClassNames(transactions.getValue().recoveryModules());
@@ -164,6 +177,26 @@ private void setJDBCObjectStore(String name, TransactionManagerConfiguration con
         instance.setTablePrefix(config.objectStore().tablePrefix());
     }
 
+    private void setJournalObjectStore(TransactionManagerConfiguration config) {
+        try {
+            Class.forName(ARTEMIS_JOURNAL_CLASS_NAME, false, Thread.currentThread().getContextClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new ConfigurationException(
+                    "The journal object store requires the org.apache.activemq:artemis-journal dependency, add it to your"
+                            + " application or set quarkus.transaction-manager.object-store.type to another value",
+                    Set.of("quarkus.transaction-manager.object-store.type"));
+        }
+        TransactionManagerConfiguration.JournalConfig journal = config.objectStore().journal();
+        HornetqJournalEnvironmentBean journalBean = BeanPopulator.getDefaultInstance(HornetqJournalEnvironmentBean.class);
+        journalBean.setStoreDir(Path.of(config.objectStore().directory(), "HornetqObjectStore").toString());
+        journalBean.setFileSize(Math.toIntExact(journal.fileSize().asLongValue()));
+        journalBean.setMinFiles(journal.minFiles());
+        journalBean.setAsyncIO(journal.asyncIo());
+        journalBean.setSyncWrites(journal.syncWrites());
+        journalBean.setBufferFlushesPerSecond(journal.bufferFlushesPerSecond());
+        BeanPopulator.getDefaultInstance(ObjectStoreEnvironmentBean.class).setObjectStoreType(JOURNAL_OBJECT_STORE_CLASS_NAME);
+    }
+
     public void startRecoveryService(Map<String, String> configuredDataSourcesConfigKeys,
             Set<String> dataSourcesWithTransactionIntegration) {
 
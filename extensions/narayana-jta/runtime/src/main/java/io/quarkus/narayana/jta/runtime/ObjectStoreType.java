@@ -2,5 +2,6 @@
 
 public enum ObjectStoreType {
     File_System,
-    JDBC
+    JDBC,
+    Journal
 }
@@ -7,6 +7,7 @@
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 
@@ -74,7 +75,8 @@ public interface TransactionManagerConfiguration {
     @ConfigGroup
     public interface ObjectStoreConfig {
         /**
-         * The name of the directory where the transaction logs will be stored when using the {@code file-system} object store.
+         * The name of the directory where the transaction logs will be stored when using the {@code file-system} or
+         * {@code journal} object store.
          * If the value is not absolute then the directory is relative
          * to the <em>user.dir</em> system property.
          */
@@ -111,5 +113,50 @@ public interface ObjectStoreConfig {
          */
         @WithDefault("quarkus_")
         String tablePrefix();
+
+        /**
+         * The configuration of the {@code journal} object store.
+         */
+        JournalConfig journal();
+    }
+
+    @ConfigGroup
+    public interface JournalConfig {
+        /**
+         * The size of each journal file.
+         */
+        @WithDefault("2M")
+        MemorySize fileSize();
+
+        /**
+         * The minimum number of journal files to pre-allocate.
+         */
+        @WithDefault("2")
+        int minFiles();
+
+        /**
+         * Whether to use the Linux native asynchronous IO (libaio) instead of Java NIO to write the journal.
+         * <p>
+         * The native library must be available on the host, otherwise Java NIO is used.
+         */
+        @WithDefault("false")
+        boolean asyncIo();
+
+        /**
+         * Whether to wait for the journal writes to be synced to the disk before completing the transaction.
+         * <p>
+         * Disabling it may lose the transaction logs on a system crash and should only be used for testing.
+         */
+        @WithDefault("true")
+        boolean syncWrites();
+
+        /**
+         * The maximum number of times per second the write buffer is flushed to the disk.
+         * <p>
+         * The records written between two flushes are synced to the disk together,
+         * so a lower value trades latency for throughput.
+         */
+        @WithDefault("500")
+        int bufferFlushesPerSecond();
     }
 }
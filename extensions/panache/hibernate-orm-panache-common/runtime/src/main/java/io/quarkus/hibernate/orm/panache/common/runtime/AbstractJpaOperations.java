@@ -72,9 +72,8 @@ protected AbstractJpaOperations(Class<SessionType> sessionType) {
         this.sessionType = sessionType;
     }
 
-    protected abstract PanacheQueryType createPanacheQuery(SessionType session, String query, String originalQuery,
-            String orderBy,
-            Object paramsArrayOrMap);
+    protected abstract PanacheQueryType createPanacheQuery(SessionType session, Class<?> entityClass, String query,
+            String originalQuery, String orderBy, Object paramsArrayOrMap);
 
     public abstract List<?> list(PanacheQueryType query);
 
@@ -174,11 +173,12 @@ public PanacheQueryType find(Class<?> entityClass, String panacheQuery, Sort sor
                                 + "\" instead");
             }
             NamedQueryUtil.checkNamedQuery(entityClass, namedQuery);
-            return createPanacheQuery(session, panacheQuery, panacheQuery, null, params);
+            return createPanacheQuery(session, entityClass, panacheQuery, panacheQuery, null, params);
         }
 
         String translatedHqlQuery = PanacheJpaUtil.createFindQuery(entityClass, panacheQuery, paramCount(params));
-        return createPanacheQuery(session, translatedHqlQuery, panacheQuery, PanacheJpaUtil.toOrderBy(sort), params);
+        return createPanacheQuery(session, entityClass, translatedHqlQuery, panacheQuery, PanacheJpaUtil.toOrderBy(sort),
+                params);
     }
 
     public PanacheQueryType find(Class<?> entityClass, String panacheQuery, Map<String, Object> params) {
@@ -195,11 +195,12 @@ public PanacheQueryType find(Class<?> entityClass, String panacheQuery, Sort sor
                                 + "\" instead");
             }
             NamedQueryUtil.checkNamedQuery(entityClass, namedQuery);
-            return createPanacheQuery(session, panacheQuery, panacheQuery, null, params);
+            return createPanacheQuery(session, entityClass, panacheQuery, panacheQuery, null, params);
         }
 
         String translatedHqlQuery = PanacheJpaUtil.createFindQuery(entityClass, panacheQuery, paramCount(params));
-        return createPanacheQuery(session, translatedHqlQuery, panacheQuery, PanacheJpaUtil.toOrderBy(sort), params);
+        return createPanacheQuery(session, entityClass, translatedHqlQuery, panacheQuery, PanacheJpaUtil.toOrderBy(sort),
+                params);
     }
 
     public PanacheQueryType find(Class<?> entityClass, String panacheQuery, Parameters params) {
@@ -261,13 +262,13 @@ public Stream<?> stream(Class<?> entityClass, String panacheQuery, Sort sort, Pa
     public PanacheQueryType findAll(Class<?> entityClass) {
         String query = "FROM " + PanacheJpaUtil.getEntityName(entityClass);
         SessionType session = getSession(entityClass);
-        return createPanacheQuery(session, query, null, null, null);
+        return createPanacheQuery(session, entityClass, query, null, null, null);
     }
 
     public PanacheQueryType findAll(Class<?> entityClass, Sort sort) {
         String query = "FROM " + PanacheJpaUtil.getEntityName(entityClass);
         SessionType session = getSession(entityClass);
-        return createPanacheQuery(session, query, null, PanacheJpaUtil.toOrderBy(sort), null);
+        return createPanacheQuery(session, entityClass, query, null, PanacheJpaUtil.toOrderBy(sort), null);
     }
 
     public List<?> listAll(Class<?> entityClass) {
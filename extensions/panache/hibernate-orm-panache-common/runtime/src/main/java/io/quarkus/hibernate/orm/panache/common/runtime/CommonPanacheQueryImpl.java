@@ -4,21 +4,33 @@
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import jakarta.persistence.LockModeType;
 
 import org.hibernate.Filter;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
 import org.hibernate.SharedSessionContract;
+import org.hibernate.query.KeyedPage;
+import org.hibernate.query.KeyedResultList;
+import org.hibernate.query.Order;
 import org.hibernate.query.SelectionQuery;
+import org.hibernate.query.SortDirection;
 import org.hibernate.query.spi.SqmQuery;
 
 import io.quarkus.hibernate.orm.panache.common.NestedProjectedClass;
@@ -26,6 +38,7 @@
 import io.quarkus.hibernate.orm.panache.common.ProjectedFieldName;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
+import io.quarkus.panache.common.Sort;
 import io.quarkus.panache.common.exception.PanacheQueryException;
 import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 
@@ -74,12 +87,20 @@ public void close() {
     protected String customCountQueryForSpring;
     private String orderBy;
     private SharedSessionContract session;
+    /**
+     * the entity class this query was created for, if known (can be null)
+     */
+    private Class<?> entityClass;
 
     private Page page;
     private Long count;
 
     private Range range;
 
+    private KeyedPage<?> keyedPage;
+    private KeyedResultList<?> keyedResults;
+    private Integer fetchSize;
+
     private LockModeType lockModeType;
     private Map<String, Object> hints;
 
@@ -88,7 +109,13 @@ public void close() {
 
     public CommonPanacheQueryImpl(SharedSessionContract session, String query, String originalQuery, String orderBy,
             Object paramsArrayOrMap) {
+        this(session, null, query, originalQuery, orderBy, paramsArrayOrMap);
+    }
+
+    public CommonPanacheQueryImpl(SharedSessionContract session, Class<?> entityClass, String query, String originalQuery,
+            String orderBy, Object paramsArrayOrMap) {
         this.session = session;
+        this.entityClass = entityClass;
         this.query = query;
         this.originalQuery = originalQuery;
         this.orderBy = orderBy;
@@ -99,6 +126,7 @@ private CommonPanacheQueryImpl(CommonPanacheQueryImpl<?> previousQuery, String n
             String customCountQueryForSpring,
             Class<?> projectionType) {
         this.session = previousQuery.session;
+        this.entityClass = previousQuery.entityClass;
         this.query = newQueryString;
         this.customCountQueryForSpring = customCountQueryForSpring;
         this.orderBy = previousQuery.orderBy;
@@ -106,6 +134,7 @@ private CommonPanacheQueryImpl(CommonPanacheQueryImpl<?> previousQuery, String n
         this.page = previousQuery.page;
         this.count = previousQuery.count;
         this.range = previousQuery.range;
+        this.fetchSize = previousQuery.fetchSize;
         this.lockModeType = previousQuery.lockModeType;
         this.hints = previousQuery.hints;
         this.filters = previousQuery.filters;
@@ -115,6 +144,9 @@ private CommonPanacheQueryImpl(CommonPanacheQueryImpl<?> previousQuery, String n
     // Builder
 
     public <T> CommonPanacheQueryImpl<T> project(Class<T> type) {
+        if (keyedPage != null) {
+            throw new PanacheQueryException("Unable to perform a projection on a query using keyset pagination: " + query);
+        }
         String selectQuery = query;
         if (PanacheJpaUtil.isNamedQuery(query)) {
             SelectionQuery<?> q = session.createNamedSelectionQuery(query.substring(1));
@@ -242,6 +274,7 @@ public void filter(String filterName, Map<String, Object> parameters) {
     public void page(Page page) {
         this.page = page;
         this.range = null; // reset the range to be able to switch from range to page
+        resetKeyset();
     }
 
     public void page(int pageIndex, int pageSize) {
@@ -306,6 +339,103 @@ public void range(int startIndex, int lastIndex) {
         this.range = Range.of(startIndex, lastIndex);
         // reset the page to its default to be able to switch from page to range
         this.page = null;
+        resetKeyset();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void keyset(Sort sort, int pageSize, List<?> lastKey) {
+        KeyedPage<?> firstPage = org.hibernate.query.Page.first(pageSize).keyedBy((List) toKeyDefinition(sort));
+        this.keyedPage = lastKey == null ? firstPage : firstPage.nextPage((List<Comparable<?>>) lastKey);
+        this.keyedResults = null;
+        // reset the page and range to be able to switch from them to keyset pagination
+        this.page = null;
+        this.range = null;
+    }
+
+    private List<Order<?>> toKeyDefinition(Sort sort) {
+        if (entityClass == null) {
+            throw new UnsupportedOperationException("Keyset pagination is not supported for this query");
+        }
+        if (projectionType != null) {
+            // the key columns are resolved against the entity, not against the projection
+            throw new PanacheQueryException("Keyset pagination is not supported on a projection query: " + query);
+        }
+        if (sort == null || sort.getColumns().isEmpty()) {
+            throw new PanacheQueryException("Keyset pagination requires at least one sort column");
+        }
+        List<Order<?>> keyDefinition = new ArrayList<>(sort.getColumns().size());
+        for (Sort.Column column : sort.getColumns()) {
+            if (column.getNullPrecedence() != null) {
+                throw new PanacheQueryException("Keyset pagination does not support null precedences, the sort column '"
+                        + column.getName() + "' must not be nullable");
+            }
+            keyDefinition.add(Order.by(entityClass, column.getName(),
+                    column.getDirection() == Sort.Direction.Descending ? SortDirection.DESCENDING
+                            : SortDirection.ASCENDING));
+        }
+        return keyDefinition;
+    }
+
+    public void nextKeysetPage() {
+        KeyedPage<?> nextPage = keyedResults().getNextPage();
+        if (nextPage == null) {
+            throw new UnsupportedOperationException("Cannot move to the next keyset page, the current page is the last one");
+        }
+        this.keyedPage = nextPage;
+        this.keyedResults = null;
+    }
+
+    public boolean hasNextKeysetPage() {
+        return !keyedResults().isLastPage();
+    }
+
+    public List<?> lastKey() {
+        List<? extends List<?>> keys = keyedResults().getKeyList();
+        return keys.isEmpty() ? null : keys.get(keys.size() - 1);
+    }
+
+    private KeyedResultList<?> keyedResults() {
+        if (keyedPage == null) {
+            throw new UnsupportedOperationException("Cannot call a keyset related method, " +
+                    "call keyset(Sort, int) to initiate keyset pagination first");
+        }
+        if (keyedResults == null) {
+            keyedResults = fetchKeyedResults(keyedPage);
+        }
+        return keyedResults;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private KeyedResultList<?> fetchKeyedResults(KeyedPage<?> page) {
+        SelectionQuery hibernateQuery = createBaseQuery();
+        try (NonThrowingCloseable c = applyFilters()) {
+            return hibernateQuery.getKeyedResultList((KeyedPage) page);
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Object firstKeyedResult() {
+        List<?> list;
+        if (keyedResults != null) {
+            list = keyedResults.getResultList();
+        } else {
+            // only fetch the first row of the current page, without caching it as the page results
+            KeyedPage<?> firstRow = org.hibernate.query.Page.first(1).keyedBy((List) keyedPage.getKeyDefinition());
+            if (keyedPage.getKey() != null) {
+                firstRow = firstRow.nextPage((List) keyedPage.getKey());
+            }
+            list = fetchKeyedResults(firstRow).getResultList();
+        }
+        return list.isEmpty() ? null : list.get(0);
+    }
+
+    private void resetKeyset() {
+        this.keyedPage = null;
+        this.keyedResults = null;
+    }
+
+    public void withFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
     }
 
     public void withLock(LockModeType lockModeType) {
@@ -344,6 +474,9 @@ public long count() {
 
     @SuppressWarnings("unchecked")
     public <T extends Entity> List<T> list() {
+        if (keyedPage != null) {
+            return (List<T>) keyedResults().getResultList();
+        }
         SelectionQuery hibernateQuery = createQuery();
         try (NonThrowingCloseable c = applyFilters()) {
             return hibernateQuery.getResultList();
@@ -352,13 +485,60 @@ public <T extends Entity> List<T> list() {
 
     @SuppressWarnings("unchecked")
     public <T extends Entity> Stream<T> stream() {
+        if (keyedPage != null) {
+            return (Stream<T>) keyedResults().getResultList().stream();
+        }
         SelectionQuery hibernateQuery = createQuery();
         try (NonThrowingCloseable c = applyFilters()) {
             return hibernateQuery.getResultStream();
         }
     }
 
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> Stream<T> batchStream(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be greater than 0: " + batchSize);
+        }
+        if (keyedPage != null) {
+            throw new UnsupportedOperationException("Cannot stream in batches a query using keyset pagination");
+        }
+        SelectionQuery hibernateQuery = createQuery();
+        if (fetchSize == null) {
+            hibernateQuery.setFetchSize(batchSize);
+        }
+        ScrollableResults<T> results;
+        try (NonThrowingCloseable c = applyFilters()) {
+            results = hibernateQuery.scroll(ScrollMode.FORWARD_ONLY);
+        }
+        // stateless sessions have no persistence context to clear
+        Session managedSession = session instanceof Session ? (Session) session : null;
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED) {
+            private long fetched;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (managedSession != null && fetched > 0 && fetched % batchSize == 0) {
+                    // the previous results have been processed, release them before loading the next batch
+                    managedSession.flush();
+                    managedSession.clear();
+                }
+                if (!results.next()) {
+                    return false;
+                }
+                fetched++;
+                action.accept(results.get());
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(results::close);
+    }
+
     public <T extends Entity> T firstResult() {
+        if (keyedPage != null) {
+            @SuppressWarnings("unchecked")
+            T first = (T) firstKeyedResult();
+            return first;
+        }
         SelectionQuery hibernateQuery = createQuery(1);
         try (NonThrowingCloseable c = applyFilters()) {
             @SuppressWarnings("unchecked")
@@ -430,7 +610,9 @@ private SelectionQuery createBaseQuery() {
             hibernateQuery = session.createNamedSelectionQuery(namedQuery, projectionType);
         } else {
             try {
-                hibernateQuery = session.createSelectionQuery(orderBy != null ? query + orderBy : query, projectionType);
+                // with keyset pagination, the order is defined by the key
+                hibernateQuery = session.createSelectionQuery(orderBy != null && keyedPage == null ? query + orderBy : query,
+                        projectionType);
             } catch (RuntimeException x) {
                 throw NamedQueryUtil.checkForNamedQueryMistake(x, originalQuery);
             }
@@ -451,6 +633,10 @@ private SelectionQuery createBaseQuery() {
                 hibernateQuery.setHint(hint.getKey(), hint.getValue());
             }
         }
+
+        if (fetchSize != null) {
+            hibernateQuery.setFetchSize(fetchSize);
+        }
         return hibernateQuery;
     }
 
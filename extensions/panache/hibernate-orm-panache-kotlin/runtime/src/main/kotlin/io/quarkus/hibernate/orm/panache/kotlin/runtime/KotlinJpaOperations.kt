@@ -6,6 +6,7 @@
 class KotlinJpaOperations : AbstractManagedJpaOperations<PanacheQueryImpl<*>>() {
     override fun createPanacheQuery(
         session: Session,
+        entityClass: Class<*>,
         hqlQuery: String,
         originalQuery: String?,
         orderBy: String?,
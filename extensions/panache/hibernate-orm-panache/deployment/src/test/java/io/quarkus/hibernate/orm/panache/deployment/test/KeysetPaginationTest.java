@@ -0,0 +1,125 @@
+package io.quarkus.hibernate.orm.panache.deployment.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import jakarta.transaction.Transactional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.panache.PanacheQuery;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class KeysetPaginationTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addClasses(MyEntity.class, NameView.class));
+
+    @Test
+    @Transactional
+    void testKeysetPagination() {
+        persistEntities("keyset-");
+        Sort key = Sort.by("name").and("id");
+
+        PanacheQuery<MyEntity> query = MyEntity.<MyEntity> find("name like ?1", "keyset-%").keyset(key, 4);
+        assertThat(names(query.list())).containsExactly("keyset-0", "keyset-1", "keyset-2", "keyset-3");
+        assertThat(query.hasNextKeysetPage()).isTrue();
+
+        query.nextKeysetPage();
+        assertThat(names(query.list())).containsExactly("keyset-4", "keyset-5", "keyset-6", "keyset-7");
+        List<?> lastKey = query.lastKey();
+        assertThat(lastKey).hasSize(2).first().isEqualTo("keyset-7");
+
+        query.nextKeysetPage();
+        assertThat(names(query.list())).containsExactly("keyset-8", "keyset-9");
+        assertThat(query.hasNextKeysetPage()).isFalse();
+        assertThrows(UnsupportedOperationException.class, query::nextKeysetPage);
+
+        // Resume the pagination from a key, as a stateless client would
+        PanacheQuery<MyEntity> resumed = MyEntity.<MyEntity> find("name like ?1", "keyset-%").keyset(key, 4, lastKey);
+        assertThat(names(resumed.list())).containsExactly("keyset-8", "keyset-9");
+
+        // Switching back to offset pagination
+        query.page(0, 3);
+        assertThrows(UnsupportedOperationException.class, query::hasNextKeysetPage);
+        assertThat(names(query.list())).hasSize(3);
+    }
+
+    @Test
+    @Transactional
+    void testKeysetResultsReuse() {
+        persistEntities("reuse-");
+        Sort key = Sort.by("name").and("id");
+
+        // Only the first row of the page is fetched
+        PanacheQuery<MyEntity> query = MyEntity.<MyEntity> find("name like ?1", "reuse-%").keyset(key, 4);
+        assertThat(query.<MyEntity> firstResult().name).isEqualTo("reuse-0");
+
+        // The page is executed once, then reused
+        List<MyEntity> firstPage = query.list();
+        assertThat(query.list()).isSameAs(firstPage);
+        assertThat(names(query.<MyEntity> stream().toList())).containsExactly("reuse-0", "reuse-1", "reuse-2", "reuse-3");
+
+        query.nextKeysetPage();
+        assertThat(query.<MyEntity> firstResult().name).isEqualTo("reuse-4");
+        assertThat(names(query.list())).containsExactly("reuse-4", "reuse-5", "reuse-6", "reuse-7");
+        assertThat(query.<MyEntity> firstResult().name).isEqualTo("reuse-4");
+
+        PanacheQuery<MyEntity> resumed = MyEntity.<MyEntity> find("name like ?1", "reuse-%").keyset(key, 4,
+                query.lastKey());
+        assertThat(resumed.<MyEntity> firstResult().name).isEqualTo("reuse-8");
+    }
+
+    @Test
+    @Transactional
+    void testKeysetWithProjection() {
+        Sort key = Sort.by("name").and("id");
+
+        PanacheQuery<MyEntity> keyset = MyEntity.<MyEntity> find("name like ?1", "projection-%").keyset(key, 4);
+        assertThrows(PanacheQueryException.class, () -> keyset.project(NameView.class));
+
+        PanacheQuery<NameView> projected = MyEntity.find("name like ?1", "projection-%").project(NameView.class);
+        assertThrows(PanacheQueryException.class, () -> projected.keyset(key, 4));
+    }
+
+    @Test
+    @Transactional
+    void testBatchStream() {
+        persistEntities("batch-");
+
+        List<MyEntity> streamed;
+        try (Stream<MyEntity> stream = MyEntity.<MyEntity> find("name like ?1", Sort.by("name"), "batch-%")
+                .batchStream(3)) {
+            streamed = stream.toList();
+        }
+        assertThat(names(streamed)).hasSize(10).isSorted();
+        // The previous batches have been cleared from the session
+        assertThat(MyEntity.getEntityManager().contains(streamed.get(0))).isFalse();
+        assertThat(MyEntity.getEntityManager().contains(streamed.get(9))).isTrue();
+    }
+
+    private static void persistEntities(String prefix) {
+        for (int i = 9; i >= 0; i--) {
+            MyEntity entity = new MyEntity();
+            entity.name = prefix + i;
+            entity.persist();
+        }
+        MyEntity.flush();
+    }
+
+    private static List<String> names(List<MyEntity> entities) {
+        return entities.stream().map(entity -> entity.name).toList();
+    }
+
+    public record NameView(String name) {
+    }
+}
@@ -15,6 +15,7 @@
 import io.quarkus.hibernate.orm.panache.common.ProjectedFieldName;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
 import io.quarkus.panache.common.exception.PanacheQueryException;
 
 /**
@@ -56,7 +57,7 @@
      * @return a new query with the same state as the previous one (params, page, range, lockMode, hints, ...) but a projected
      *         result of the type
      *         <code>type</code>
-     * @throws PanacheQueryException if this represents an already-projected query
+     * @throws PanacheQueryException if this represents an already-projected query or uses keyset pagination
      */
     public <T> PanacheQuery<T> project(Class<T> type);
 
@@ -167,6 +168,68 @@
      */
     public <T extends Entity> PanacheQuery<T> range(int startIndex, int lastIndex);
 
+    /**
+     * Switch the query to use keyset pagination and set the first page. Unlike {@link #page(Page)}, the following pages
+     * are located by seeking past the key of the last result of the current page instead of skipping the results of the
+     * previous pages, so fetching a page does not get slower as the page index grows.
+     * <p>
+     * The given sort columns define both the order of the results and their key: they must be attributes of the
+     * queried entity and their combination must be unique, for example by ending with the identifier. The query itself
+     * must not define any order, the {@link Sort} passed when creating the query is ignored.
+     *
+     * @param sort the sort columns defining the key of the results
+     * @param pageSize the number of results per page
+     * @return this query, modified
+     * @throws PanacheQueryException if the sort has no column or a column with a null precedence, or if this represents a
+     *         projected query
+     * @see #keyset(Sort, int, List)
+     * @see #nextKeysetPage()
+     */
+    public <T extends Entity> PanacheQuery<T> keyset(Sort sort, int pageSize);
+
+    /**
+     * Switch the query to use keyset pagination and set the page following the given key. This is useful to resume the
+     * pagination in a new query, for example in a new request, using the key previously obtained with {@link #lastKey()}.
+     *
+     * @param sort the sort columns defining the key of the results, in the same order as for the previous page
+     * @param pageSize the number of results per page
+     * @param lastKey the key of the last result of the previous page
+     * @return this query, modified
+     * @throws PanacheQueryException if the sort has no column or a column with a null precedence, or if this represents a
+     *         projected query
+     * @see #keyset(Sort, int)
+     * @see #lastKey()
+     */
+    public <T extends Entity> PanacheQuery<T> keyset(Sort sort, int pageSize, List<?> lastKey);
+
+    /**
+     * Sets the next keyset page, located after the last result of the current page. This executes the query for the
+     * current page if it has not been executed yet.
+     *
+     * @return this query, modified
+     * @throws UnsupportedOperationException if keyset pagination hasn't been set or if the current page is the last one
+     * @see #hasNextKeysetPage()
+     */
+    public <T extends Entity> PanacheQuery<T> nextKeysetPage();
+
+    /**
+     * Returns true if there is another keyset page after the current one. This executes the query for the current page
+     * if it has not been executed yet.
+     *
+     * @return true if there is another keyset page
+     * @throws UnsupportedOperationException if keyset pagination hasn't been set
+     */
+    public boolean hasNextKeysetPage();
+
+    /**
+     * Returns the key of the last result of the current keyset page, to be passed to {@link #keyset(Sort, int, List)}.
+     * This executes the query for the current page if it has not been executed yet.
+     *
+     * @return the values of the sort columns for the last result of the current page, or null if the page is empty
+     * @throws UnsupportedOperationException if keyset pagination hasn't been set
+     */
+    public List<?> lastKey();
+
     /**
      * Define the locking strategy used for this query.
      *
@@ -184,6 +247,16 @@
      */
     public <T extends Entity> PanacheQuery<T> withHint(String hintName, Object value);
 
+    /**
+     * Set the JDBC fetch size used for this query, which is the number of rows fetched from the database in each round
+     * trip. This overrides the <code>quarkus.hibernate-orm.jdbc.statement-fetch-size</code> configuration property.
+     *
+     * @param fetchSize the JDBC fetch size
+     * @return this query, modified
+     * @see #batchStream(int)
+     */
+    public <T extends Entity> PanacheQuery<T> withFetchSize(int fetchSize);
+
     /**
      * <p>
      * Enables a Hibernate filter during fetching of results for this query. Your filter must be declared
@@ -262,6 +335,22 @@
      */
     public <T extends Entity> Stream<T> stream();
 
+    /**
+     * Returns the current page of results as a {@link Stream} backed by a forward-only database cursor, flushing and
+     * clearing the {@link Session} every <code>batchSize</code> results. Unlike {@link #stream()}, the memory used to
+     * iterate over the results does not grow with their number, which makes this suitable to export large tables.
+     * <p>
+     * WARNING: the results are detached once the following batch is loaded, and so are all the other entities managed
+     * by the session. The JDBC fetch size defaults to the batch size unless set with {@link #withFetchSize(int)}.
+     * The returned stream must be closed to release the database cursor.
+     *
+     * @param batchSize the number of results after which the session is flushed and cleared
+     * @return the current page of results as a {@link Stream}.
+     * @throws UnsupportedOperationException if keyset pagination is set
+     * @see #stream()
+     */
+    public <T extends Entity> Stream<T> batchStream(int batchSize);
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to fetch
      * a single result.
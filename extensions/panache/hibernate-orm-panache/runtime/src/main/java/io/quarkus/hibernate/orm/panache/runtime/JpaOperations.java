@@ -14,9 +14,9 @@ public class JpaOperations extends AbstractManagedJpaOperations<PanacheQueryImpl
     public static final JpaOperations INSTANCE = new JpaOperations();
 
     @Override
-    protected PanacheQueryImpl<?> createPanacheQuery(Session session, String query, String originalQuery, String orderBy,
-            Object paramsArrayOrMap) {
-        return new PanacheQueryImpl<>(session, query, originalQuery, orderBy, paramsArrayOrMap);
+    protected PanacheQueryImpl<?> createPanacheQuery(Session session, Class<?> entityClass, String query,
+            String originalQuery, String orderBy, Object paramsArrayOrMap) {
+        return new PanacheQueryImpl<>(session, entityClass, query, originalQuery, orderBy, paramsArrayOrMap);
     }
 
     @Override
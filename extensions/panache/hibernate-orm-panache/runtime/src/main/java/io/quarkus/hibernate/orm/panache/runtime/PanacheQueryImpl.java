@@ -14,14 +14,15 @@
 import io.quarkus.hibernate.orm.panache.common.runtime.CommonPanacheQueryImpl;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
 
 public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
 
     private CommonPanacheQueryImpl<Entity> delegate;
 
-    PanacheQueryImpl(SharedSessionContract session, String query, String originalQuery, String orderBy,
-            Object paramsArrayOrMap) {
-        this.delegate = new CommonPanacheQueryImpl<>(session, query, originalQuery, orderBy, paramsArrayOrMap);
+    PanacheQueryImpl(SharedSessionContract session, Class<?> entityClass, String query, String originalQuery,
+            String orderBy, Object paramsArrayOrMap) {
+        this.delegate = new CommonPanacheQueryImpl<>(session, entityClass, query, originalQuery, orderBy, paramsArrayOrMap);
     }
 
     protected PanacheQueryImpl(CommonPanacheQueryImpl<Entity> delegate) {
@@ -104,6 +105,37 @@ public <T extends Entity> PanacheQuery<T> range(int startIndex, int lastIndex) {
         return (PanacheQuery<T>) this;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Entity> PanacheQuery<T> keyset(Sort sort, int pageSize) {
+        delegate.keyset(sort, pageSize, null);
+        return (PanacheQuery<T>) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Entity> PanacheQuery<T> keyset(Sort sort, int pageSize, List<?> lastKey) {
+        delegate.keyset(sort, pageSize, lastKey);
+        return (PanacheQuery<T>) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Entity> PanacheQuery<T> nextKeysetPage() {
+        delegate.nextKeysetPage();
+        return (PanacheQuery<T>) this;
+    }
+
+    @Override
+    public boolean hasNextKeysetPage() {
+        return delegate.hasNextKeysetPage();
+    }
+
+    @Override
+    public List<?> lastKey() {
+        return delegate.lastKey();
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T extends Entity> PanacheQuery<T> withLock(LockModeType lockModeType) {
@@ -118,6 +150,13 @@ public <T extends Entity> PanacheQuery<T> withHint(String hintName, Object value
         return (PanacheQuery<T>) this;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Entity> PanacheQuery<T> withFetchSize(int fetchSize) {
+        delegate.withFetchSize(fetchSize);
+        return (PanacheQuery<T>) this;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T extends Entity> PanacheQuery<T> filter(String filterName, Parameters parameters) {
@@ -156,6 +195,11 @@ public <T extends Entity> Stream<T> stream() {
         return delegate.stream();
     }
 
+    @Override
+    public <T extends Entity> Stream<T> batchStream(int batchSize) {
+        return delegate.batchStream(batchSize);
+    }
+
     @Override
     public <T extends Entity> T firstResult() {
         return delegate.firstResult();
@@ -11,8 +11,8 @@
 public class ManagedBlockingJpaOperations extends AbstractManagedJpaOperations<PanacheBlockingQuery<?>> {
 
     @Override
-    protected PanacheBlockingQuery<?> createPanacheQuery(Session session, String query, String originalQuery,
-            String orderBy, Object paramsArrayOrMap) {
+    protected PanacheBlockingQuery<?> createPanacheQuery(Session session, Class<?> entityClass, String query,
+            String originalQuery, String orderBy, Object paramsArrayOrMap) {
         return new PanacheBlockingQueryImpl<>(session, query, originalQuery, orderBy, paramsArrayOrMap);
     }
 
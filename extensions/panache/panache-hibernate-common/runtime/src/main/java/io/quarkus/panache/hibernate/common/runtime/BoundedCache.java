@@ -0,0 +1,83 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A concurrent cache holding at most a given number of entries.
+ * <p>
+ * The eviction approximates LRU with the second chance (clock) algorithm: an entry that was read since the last sweep is
+ * kept, an entry that was not is evicted. Unlike an access-ordered map, a read does not need a lock.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+final class BoundedCache<K, V> {
+
+    private final int maxSize;
+    private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    // The keys in insertion order, the entries given a second chance are moved to the tail
+    private final ConcurrentLinkedQueue<K> clock = new ConcurrentLinkedQueue<>();
+
+    BoundedCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The max size must be greater than zero: " + maxSize);
+        }
+        this.maxSize = maxSize;
+    }
+
+    V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        entry.referenced = true;
+        return entry.value;
+    }
+
+    void put(K key, V value) {
+        if (entries.putIfAbsent(key, new Entry<>(value)) == null) {
+            clock.add(key);
+            if (entries.size() > maxSize) {
+                evict();
+            }
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        // Each key is given at most one second chance per sweep, so the loop ends even if the entries are read concurrently
+        int remaining = 2 * maxSize;
+        while (entries.size() > maxSize && remaining-- > 0) {
+            K key = clock.poll();
+            if (key == null) {
+                return;
+            }
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                continue;
+            }
+            if (entry.referenced) {
+                entry.referenced = false;
+                clock.add(key);
+            } else {
+                entries.remove(key, entry);
+            }
+        }
+    }
+
+    private static final class Entry<V> {
+
+        final V value;
+        volatile boolean referenced;
+
+        Entry(V value) {
+            this.value = value;
+        }
+    }
+
+}
@@ -17,6 +17,16 @@ public class PanacheJpaUtil {
     static final Pattern FROM_PATTERN = Pattern.compile("^\\s*FROM\\s+.*",
             Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
 
+    /**
+     * The max number of expanded queries kept in the cache. The queries that are not used anymore are evicted, so the
+     * queries built dynamically, e.g. with concatenated literals, do not prevent the constant queries from being cached.
+     */
+    static final int MAX_EXPANDED_QUERIES = 4096;
+
+    // Keyed by the entity class name, not the class, so that the cache does not retain classes after a dev mode restart
+    private static final BoundedCache<ExpandedQueryKey, String> EXPANDED_QUERIES = new BoundedCache<>(
+            MAX_EXPANDED_QUERIES);
+
     public static String getEntityName(Class<?> entityClass) {
         // FIXME: not true?
         // Escape the entity name just in case some keywords are used
@@ -46,7 +56,57 @@ public static String createFindQuery(Class<?> entityClass, String query, int par
         if (query == null) {
             return "FROM " + getEntityName(entityClass);
         }
+        return expand(QueryKind.FIND, entityClass, query, paramCount);
+    }
+
+    public static String createQueryForCount(Class<?> entityClass, String query, int paramCount) {
+        if (query == null || query.isEmpty()) {
+            return "FROM " + getEntityName(entityClass);
+        }
+        return expand(QueryKind.COUNT, entityClass, query, paramCount);
+    }
 
+    public static String createUpdateQuery(Class<?> entityClass, String query, int paramCount) {
+        if (query == null) {
+            throw new PanacheQueryException("Query string cannot be null");
+        }
+        return expand(QueryKind.UPDATE, entityClass, query, paramCount);
+    }
+
+    public static String createDeleteQuery(Class<?> entityClass, String query, int paramCount) {
+        if (query == null) {
+            return "DELETE FROM " + getEntityName(entityClass);
+        }
+        return expand(QueryKind.DELETE, entityClass, query, paramCount);
+    }
+
+    private static String expand(QueryKind kind, Class<?> entityClass, String query, int paramCount) {
+        // The expansion only depends on whether there is a single parameter
+        ExpandedQueryKey key = new ExpandedQueryKey(kind, entityClass.getName(), query, paramCount == 1);
+        String expanded = EXPANDED_QUERIES.get(key);
+        if (expanded == null) {
+            expanded = switch (kind) {
+                case FIND -> expandFindQuery(entityClass, query, paramCount);
+                case COUNT -> expandQueryForCount(entityClass, query, paramCount);
+                case UPDATE -> expandUpdateQuery(entityClass, query, paramCount);
+                case DELETE -> expandDeleteQuery(entityClass, query, paramCount);
+            };
+            EXPANDED_QUERIES.put(key, expanded);
+        }
+        return expanded;
+    }
+
+    private enum QueryKind {
+        FIND,
+        COUNT,
+        UPDATE,
+        DELETE
+    }
+
+    private record ExpandedQueryKey(QueryKind kind, String entityName, String query, boolean singleParameter) {
+    }
+
+    private static String expandFindQuery(Class<?> entityClass, String query, int paramCount) {
         String trimmedForAnalysis = trimForAnalysis(query);
         if (trimmedForAnalysis.isEmpty()) {
             return "FROM " + getEntityName(entityClass);
@@ -74,10 +134,7 @@ public static boolean isNamedQuery(String query) {
         return query.charAt(0) == '#';
     }
 
-    public static String createQueryForCount(Class<?> entityClass, String query, int paramCount) {
-        if (query == null || query.isEmpty())
-            return "FROM " + getEntityName(entityClass);
-
+    private static String expandQueryForCount(Class<?> entityClass, String query, int paramCount) {
         String trimmedForAnalysis = trimForAnalysis(query);
         if (trimmedForAnalysis.isEmpty())
             return "FROM " + getEntityName(entityClass);
@@ -101,11 +158,7 @@ public static String createQueryForCount(Class<?> entityClass, String query, int
         return "FROM " + getEntityName(entityClass) + " WHERE " + query;
     }
 
-    public static String createUpdateQuery(Class<?> entityClass, String query, int paramCount) {
-        if (query == null) {
-            throw new PanacheQueryException("Query string cannot be null");
-        }
-
+    private static String expandUpdateQuery(Class<?> entityClass, String query, int paramCount) {
         String trimmedForAnalysis = trimForAnalysis(query);
         if (trimmedForAnalysis.isEmpty()) {
             throw new PanacheQueryException("Query string cannot be empty");
@@ -134,10 +187,7 @@ public static String createUpdateQuery(Class<?> entityClass, String query, int p
         return "UPDATE " + getEntityName(entityClass) + " SET " + query;
     }
 
-    public static String createDeleteQuery(Class<?> entityClass, String query, int paramCount) {
-        if (query == null)
-            return "DELETE FROM " + getEntityName(entityClass);
-
+    private static String expandDeleteQuery(Class<?> entityClass, String query, int paramCount) {
         String trimmedForAnalysis = trimForAnalysis(query);
         if (trimmedForAnalysis.isEmpty())
             return "DELETE FROM " + getEntityName(entityClass);
@@ -0,0 +1,37 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+public class BoundedCacheTest {
+
+    @Test
+    public void testCacheIsBounded() {
+        BoundedCache<String, String> cache = new BoundedCache<>(4);
+        for (int i = 0; i < 10; i++) {
+            cache.put("query" + i, "expanded" + i);
+        }
+        assertEquals(4, cache.size());
+        // The most recent entries are kept
+        assertEquals("expanded9", cache.get("query9"));
+        assertNull(cache.get("query0"));
+    }
+
+    @Test
+    public void testUsedEntriesAreNotEvicted() {
+        BoundedCache<String, String> cache = new BoundedCache<>(4);
+        cache.put("constant", "expanded");
+        // Queries built dynamically keep being added while the constant query keeps being used
+        for (int i = 0; i < 100; i++) {
+            assertEquals("expanded", cache.get("constant"));
+            cache.put("dynamic" + i, "expanded" + i);
+        }
+        assertEquals(4, cache.size());
+        assertEquals("expanded", cache.get("constant"));
+        // An entry is cached even when the cache is full
+        assertEquals("expanded99", cache.get("dynamic99"));
+    }
+
+}
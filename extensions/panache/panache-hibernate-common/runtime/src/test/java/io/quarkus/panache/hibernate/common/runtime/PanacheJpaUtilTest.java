@@ -0,0 +1,38 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.panache.common.exception.PanacheQueryException;
+
+public class PanacheJpaUtilTest {
+
+    @Test
+    public void testExpandedQueriesAreCached() {
+        String find = PanacheJpaUtil.createFindQuery(PanacheJpaUtilTest.class, "name", 1);
+        assertEquals("FROM `" + PanacheJpaUtilTest.class.getName() + "` WHERE name = ?1", find);
+        assertSame(find, PanacheJpaUtil.createFindQuery(PanacheJpaUtilTest.class, "name", 1));
+        // The expansion differs if there is not a single parameter
+        assertEquals("FROM `" + PanacheJpaUtilTest.class.getName() + "` WHERE name",
+                PanacheJpaUtil.createFindQuery(PanacheJpaUtilTest.class, "name", 2));
+        // And for each kind of query
+        assertEquals("DELETE FROM `" + PanacheJpaUtilTest.class.getName() + "` WHERE name = ?1",
+                PanacheJpaUtil.createDeleteQuery(PanacheJpaUtilTest.class, "name", 1));
+        assertEquals("FROM `" + PanacheJpaUtilTest.class.getName() + "` WHERE name = ?1",
+                PanacheJpaUtil.createQueryForCount(PanacheJpaUtilTest.class, "name", 1));
+        assertEquals("UPDATE `" + PanacheJpaUtilTest.class.getName() + "` SET name = ?1",
+                PanacheJpaUtil.createUpdateQuery(PanacheJpaUtilTest.class, "name", 1));
+    }
+
+    @Test
+    public void testInvalidUpdateQueriesAreNotCached() {
+        assertThrows(PanacheQueryException.class, () -> PanacheJpaUtil.createUpdateQuery(PanacheJpaUtilTest.class, null, 0));
+        assertThrows(PanacheQueryException.class, () -> PanacheJpaUtil.createUpdateQuery(PanacheJpaUtilTest.class, " ", 0));
+        // Failed expansions are not cached, so the query is rejected again
+        assertThrows(PanacheQueryException.class, () -> PanacheJpaUtil.createUpdateQuery(PanacheJpaUtilTest.class, " ", 0));
+    }
+
+}
@@ -52,6 +52,19 @@ public interface DataSourceReactiveRuntimeConfig {
      */
     OptionalInt eventLoopSize();
 
+    /**
+     * Whether a new connection should be bound to the event loop of the caller that requested it.
+     * <p>
+     * The pool always prefers an idle connection bound to the caller's event loop, and only falls back to a connection bound
+     * to another event loop if none is available. When enabled, connections are created on the event loop that needs them,
+     * so that queries issued from an event loop are usually executed on a connection of the same event loop, without a thread
+     * hop.
+     * <p>
+     * When enabled, {@code #event-loop-size} is ignored.
+     */
+    @WithDefault("false")
+    boolean eventLoopAffinity();
+
     /**
      * Whether all server certificates should be trusted.
      */
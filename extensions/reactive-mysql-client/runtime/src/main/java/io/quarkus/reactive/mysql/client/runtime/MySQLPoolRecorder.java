@@ -172,7 +172,10 @@ private PoolOptions toPoolOptions(Integer eventLoopCount,
             }
         }
 
-        if (dataSourceReactiveRuntimeConfig.eventLoopSize().isPresent()) {
+        if (dataSourceReactiveRuntimeConfig.eventLoopAffinity()) {
+            // the pool binds new connections to the caller's event loop
+            poolOptions.setEventLoopSize(0);
+        } else if (dataSourceReactiveRuntimeConfig.eventLoopSize().isPresent()) {
             poolOptions.setEventLoopSize(Math.max(0, dataSourceReactiveRuntimeConfig.eventLoopSize().getAsInt()));
         } else if (eventLoopCount != null) {
             poolOptions.setEventLoopSize(Math.max(0, eventLoopCount));
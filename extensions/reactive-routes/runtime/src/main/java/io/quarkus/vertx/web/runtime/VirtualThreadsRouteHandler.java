@@ -1,5 +1,7 @@
 package io.quarkus.vertx.web.runtime;
 
+import java.util.concurrent.RejectedExecutionException;
+
 import io.quarkus.vertx.core.runtime.VertxCoreRecorder;
 import io.quarkus.vertx.core.runtime.context.VertxContextSafetyToggle;
 import io.quarkus.virtual.threads.VirtualThreadsRecorder;
@@ -23,12 +25,17 @@ public void handle(RoutingContext context) {
         vertxContext.runOnContext(new Handler<Void>() {
             @Override
             public void handle(Void event) {
-                VirtualThreadsRecorder.getCurrent().execute(new Runnable() {
-                    @Override
-                    public void run() {
-                        routeHandler.handle(context);
-                    }
-                });
+                try {
+                    VirtualThreadsRecorder.getCurrent().execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            routeHandler.handle(context);
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    // The max concurrency of virtual threads is reached and the queue is full
+                    context.fail(503, e);
+                }
             }
         });
     }
@@ -3,6 +3,7 @@
 import java.time.Duration;
 import java.util.OptionalLong;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.UnaryOperator;
 
 import jakarta.enterprise.inject.Instance;
 
@@ -41,7 +42,23 @@ protected ScheduledInvoker initInvoker(ScheduledInvoker invoker, Events events,
             ConcurrentExecution concurrentExecution, Scheduled.SkipPredicate skipPredicate, JobInstrumenter instrumenter,
             Vertx vertx, boolean skipOffloadingInvoker,
             OptionalLong delay, ScheduledExecutorService blockingExecutor) {
+        return initInvoker(invoker, events, concurrentExecution, skipPredicate, instrumenter, vertx, skipOffloadingInvoker,
+                delay, blockingExecutor, null);
+    }
+
+    /**
+     *
+     * @param executionLease wraps the invoker with an invoker claiming the execution in the cluster, may be {@code null}
+     */
+    protected ScheduledInvoker initInvoker(ScheduledInvoker invoker, Events events,
+            ConcurrentExecution concurrentExecution, Scheduled.SkipPredicate skipPredicate, JobInstrumenter instrumenter,
+            Vertx vertx, boolean skipOffloadingInvoker,
+            OptionalLong delay, ScheduledExecutorService blockingExecutor, UnaryOperator<ScheduledInvoker> executionLease) {
         invoker = new StatusEmitterInvoker(invoker, events.successExecution, events.failedExecution);
+        if (executionLease != null) {
+            // The execution is only claimed if it is not skipped locally, otherwise no node would execute it
+            invoker = executionLease.apply(invoker);
+        }
         if (concurrentExecution == ConcurrentExecution.SKIP) {
             invoker = new SkipConcurrentExecutionInvoker(invoker, events.skippedExecution);
         }
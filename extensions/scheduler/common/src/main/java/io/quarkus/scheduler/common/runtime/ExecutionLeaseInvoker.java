@@ -0,0 +1,100 @@
+package io.quarkus.scheduler.common.runtime;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import jakarta.enterprise.event.Event;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.scheduler.FailedExecution;
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.SkippedExecution;
+import io.quarkus.scheduler.spi.ExecutionLeaseStore;
+
+/**
+ * A scheduled invoker wrapper that skips the execution if it was claimed by another node.
+ * <p>
+ * The execution must only be claimed once the node is about to run it: this invoker wraps the invoker that emits the status
+ * events, and is wrapped by the invokers that may skip the execution locally.
+ *
+ * @see ExecutionLeaseStore
+ */
+public final class ExecutionLeaseInvoker extends DelegateInvoker {
+
+    private static final Logger LOG = Logger.getLogger(ExecutionLeaseInvoker.class);
+
+    private final ExecutionLeaseStore leaseStore;
+    private final String nodeId;
+    private final Duration leaseDuration;
+    // milliseconds; 0 if the job is not scheduled with a fixed interval
+    private final long interval;
+    private final Event<SkippedExecution> event;
+    private final Event<FailedExecution> failedEvent;
+
+    public ExecutionLeaseInvoker(ScheduledInvoker delegate, ExecutionLeaseStore leaseStore, String nodeId,
+            Duration leaseDuration, long interval, Event<SkippedExecution> event, Event<FailedExecution> failedEvent) {
+        super(delegate);
+        this.leaseStore = leaseStore;
+        this.nodeId = nodeId;
+        this.leaseDuration = leaseDuration;
+        this.interval = interval;
+        this.event = event;
+        this.failedEvent = failedEvent;
+    }
+
+    @Override
+    public CompletionStage<Void> invoke(ScheduledExecution execution) throws Exception {
+        Instant scheduledFireTime = claimedFireTime(execution.getScheduledFireTime(), interval);
+        CompletionStage<Boolean> claim;
+        try {
+            claim = leaseStore.tryAcquire(execution.getTrigger().getId(), scheduledFireTime, nodeId, leaseDuration);
+        } catch (Exception e) {
+            claim = CompletableFuture.failedStage(e);
+        }
+        return claim
+                .handle((acquired, failure) -> {
+                    if (failure != null) {
+                        // The other nodes may have failed to claim the execution too, so it must not go unnoticed
+                        LOG.errorf(failure, "Unable to claim the execution of the scheduled invoker: %s",
+                                execution.getTrigger());
+                        Events.fire(failedEvent, new FailedExecution(execution, failure));
+                        return CompletableFuture.<Void> failedStage(failure);
+                    }
+                    if (acquired) {
+                        return invokeDelegate(execution);
+                    }
+                    LOG.debugf("Skipped scheduled invoker execution claimed by another node: %s", execution.getTrigger());
+                    SkippedExecution payload = new SkippedExecution(execution, "Execution claimed by another node");
+                    try {
+                        event.fire(payload);
+                        event.fireAsync(payload);
+                    } catch (Exception e) {
+                        LOG.errorf("Error while firing SkippedExecution event", e);
+                    }
+                    return CompletableFuture.<Void> completedStage(null);
+                })
+                .thenCompose(Function.identity());
+    }
+
+    /**
+     * The fire times of a job scheduled with a fixed interval depend on the time the node was started, so the executions
+     * of such a job are claimed for the start of the interval slot, i.e. {@code floor(epochMillis / interval) * interval}.
+     * The fire times of other jobs may only differ in milliseconds across the nodes, so they are truncated to seconds.
+     *
+     * @param interval the interval in milliseconds, or {@code 0}
+     * @return the fire time the execution is claimed for
+     */
+    static Instant claimedFireTime(Instant scheduledFireTime, long interval) {
+        if (interval > 0) {
+            long epochMillis = scheduledFireTime.toEpochMilli();
+            return Instant.ofEpochMilli(Math.floorDiv(epochMillis, interval) * interval);
+        }
+        return scheduledFireTime.truncatedTo(ChronoUnit.SECONDS);
+    }
+
+}
@@ -92,6 +92,7 @@
 import io.quarkus.scheduler.kotlin.runtime.AbstractCoroutineInvoker;
 import io.quarkus.scheduler.runtime.CompositeScheduler;
 import io.quarkus.scheduler.runtime.Constituent;
+import io.quarkus.scheduler.runtime.InMemoryExecutionLeaseStore;
 import io.quarkus.scheduler.runtime.SchedulerConfig;
 import io.quarkus.scheduler.runtime.SchedulerRecorder;
 import io.quarkus.scheduler.runtime.SimpleScheduler;
@@ -155,13 +156,16 @@ void transformSchedulerBeans(DiscoveredImplementationsBuildItem discoveredImplem
     }
 
     @BuildStep
-    void beans(DiscoveredImplementationsBuildItem discoveredImplementations,
+    void beans(SchedulerConfig config, DiscoveredImplementationsBuildItem discoveredImplementations,
             BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
         additionalBeans.produce(new AdditionalBeanBuildItem(Scheduled.ApplicationNotRunning.class));
         if (discoveredImplementations.getImplementations().size() == 1
                 || discoveredImplementations.isCompositeSchedulerUsed()) {
             // Quartz extension is not present or composite scheduler is used
             additionalBeans.produce(new AdditionalBeanBuildItem(SimpleScheduler.class));
+            if (config.clusterEnabled()) {
+                additionalBeans.produce(new AdditionalBeanBuildItem(InMemoryExecutionLeaseStore.class));
+            }
         }
     }
 
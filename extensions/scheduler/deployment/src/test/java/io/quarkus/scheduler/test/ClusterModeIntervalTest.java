@@ -0,0 +1,150 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.FailedExecution;
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.SkippedExecution;
+import io.quarkus.scheduler.Trigger;
+import io.quarkus.scheduler.common.runtime.ExecutionLeaseInvoker;
+import io.quarkus.scheduler.runtime.InMemoryExecutionLeaseStore;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ClusterModeIntervalTest {
+
+    private static final long INTERVAL = 10_000;
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> root.addClasses(FailedExecutions.class))
+            .overrideConfigKey("quarkus.scheduler.cluster.enabled", "true");
+
+    @Inject
+    InMemoryExecutionLeaseStore leaseStore;
+
+    @Inject
+    Event<SkippedExecution> skippedExecutionEvent;
+
+    @Inject
+    Event<FailedExecution> failedExecutionEvent;
+
+    @Inject
+    FailedExecutions failedExecutions;
+
+    @Test
+    public void testNodesStartedAtDifferentOffsets() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        ExecutionLeaseInvoker node1 = new ExecutionLeaseInvoker(e -> {
+            executions.incrementAndGet();
+            return CompletableFuture.completedStage(null);
+        }, leaseStore, "node1", Duration.ofMinutes(1), INTERVAL, skippedExecutionEvent, failedExecutionEvent);
+        ExecutionLeaseInvoker node2 = new ExecutionLeaseInvoker(e -> {
+            executions.incrementAndGet();
+            return CompletableFuture.completedStage(null);
+        }, leaseStore, "node2", Duration.ofMinutes(1), INTERVAL, skippedExecutionEvent, failedExecutionEvent);
+
+        // The triggers of the nodes were started 3 and 7 seconds after the start of an interval slot
+        Instant slot = Instant.ofEpochMilli(Math.floorDiv(System.currentTimeMillis(), INTERVAL) * INTERVAL);
+        for (int i = 0; i < 3; i++) {
+            Instant start = slot.plusMillis(i * INTERVAL);
+            node1.invoke(new Execution(start.plusSeconds(3))).toCompletableFuture().get();
+            node2.invoke(new Execution(start.plusSeconds(7))).toCompletableFuture().get();
+            // Only one node executes the job in each interval
+            assertEquals(i + 1, executions.get());
+        }
+    }
+
+    @Test
+    public void testFailedClaim() {
+        AtomicInteger executions = new AtomicInteger();
+        ExecutionLeaseInvoker invoker = new ExecutionLeaseInvoker(e -> {
+            executions.incrementAndGet();
+            return CompletableFuture.completedStage(null);
+        }, (jobId, scheduledFireTime, nodeId, leaseDuration) -> CompletableFuture
+                .failedStage(new IllegalStateException("Lease store unavailable")),
+                "node1", Duration.ofMinutes(1), INTERVAL, skippedExecutionEvent, failedExecutionEvent);
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> invoker.invoke(new Execution(Instant.now())).toCompletableFuture().get());
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertEquals(0, executions.get());
+        // The failure is not silently dropped
+        assertEquals(1, failedExecutions.failures.size());
+        assertInstanceOf(IllegalStateException.class, failedExecutions.failures.get(0).getException());
+    }
+
+    @Singleton
+    static class FailedExecutions {
+
+        final List<FailedExecution> failures = new CopyOnWriteArrayList<>();
+
+        void onFailure(@Observes FailedExecution failure) {
+            failures.add(failure);
+        }
+
+    }
+
+    static class Execution implements ScheduledExecution, Trigger {
+
+        private final Instant scheduledFireTime;
+
+        Execution(Instant scheduledFireTime) {
+            this.scheduledFireTime = scheduledFireTime;
+        }
+
+        @Override
+        public Trigger getTrigger() {
+            return this;
+        }
+
+        @Override
+        public Instant getFireTime() {
+            return scheduledFireTime;
+        }
+
+        @Override
+        public Instant getScheduledFireTime() {
+            return scheduledFireTime;
+        }
+
+        @Override
+        public String getId() {
+            return "foo";
+        }
+
+        @Override
+        public Instant getNextFireTime() {
+            return scheduledFireTime.plusMillis(INTERVAL);
+        }
+
+        @Override
+        public Instant getPreviousFireTime() {
+            return null;
+        }
+
+        @Override
+        public boolean isOverdue() {
+            return false;
+        }
+
+    }
+
+}
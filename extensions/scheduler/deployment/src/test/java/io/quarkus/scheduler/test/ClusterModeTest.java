@@ -0,0 +1,77 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.SkippedExecution;
+import io.quarkus.scheduler.spi.ExecutionLeaseStore;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ClusterModeTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> root.addClasses(Jobs.class, OtherNodeLeaseStore.class))
+            .overrideConfigKey("quarkus.scheduler.cluster.enabled", "true")
+            .overrideConfigKey("quarkus.scheduler.cluster.node-id", "node1");
+
+    @Test
+    public void testExecutionClaimed() throws InterruptedException {
+        assertTrue(Jobs.EXECUTED.await(10, TimeUnit.SECONDS));
+        assertTrue(Jobs.SKIPPED.await(10, TimeUnit.SECONDS));
+        // The executions of "bar" are always claimed by another node
+        assertEquals(0, Jobs.BAR_COUNT.get());
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch EXECUTED = new CountDownLatch(2);
+        static final CountDownLatch SKIPPED = new CountDownLatch(2);
+        static final AtomicInteger BAR_COUNT = new AtomicInteger();
+
+        @Scheduled(identity = "foo", every = "1s")
+        void foo() {
+            EXECUTED.countDown();
+        }
+
+        @Scheduled(identity = "bar", every = "1s")
+        void bar() {
+            BAR_COUNT.incrementAndGet();
+        }
+
+        void onSkip(@Observes SkippedExecution event) {
+            if (event.triggerId.equals("bar")) {
+                SKIPPED.countDown();
+            }
+        }
+
+    }
+
+    @Singleton
+    public static class OtherNodeLeaseStore implements ExecutionLeaseStore {
+
+        @Override
+        public CompletionStage<Boolean> tryAcquire(String jobId, Instant scheduledFireTime, String nodeId,
+                Duration leaseDuration) {
+            assertEquals("node1", nodeId);
+            return CompletableFuture.completedStage(!jobId.equals("bar"));
+        }
+
+    }
+
+}
@@ -0,0 +1,60 @@
+package io.quarkus.scheduler.test.programmatic;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ManyProgrammaticJobsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .overrideConfigKey("quarkus.scheduler.start-mode", "forced");
+
+    static final int JOBS = 10_000;
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testManyJobs() throws InterruptedException {
+        CountDownLatch executed = new CountDownLatch(JOBS);
+        AtomicInteger executions = new AtomicInteger();
+        for (int i = 0; i < JOBS; i++) {
+            scheduler.newJob("job" + i)
+                    .setInterval("1s")
+                    .setTask(ex -> {
+                        executions.incrementAndGet();
+                        executed.countDown();
+                    })
+                    .schedule();
+        }
+        assertTrue(executed.await(10, TimeUnit.SECONDS));
+        assertEquals(JOBS, scheduler.getScheduledJobs().size());
+
+        for (int i = 0; i < JOBS; i++) {
+            assertNotNull(scheduler.unscheduleJob("job" + i));
+        }
+        // Unscheduled jobs are not executed anymore, i.e. the count does not change for more than one check period once the
+        // executions in progress completed
+        AtomicInteger lastCount = new AtomicInteger(executions.get());
+        await().atMost(Duration.ofSeconds(5)).during(Duration.ofMillis(1200)).until(() -> {
+            int count = executions.get();
+            return lastCount.getAndSet(count) == count;
+        });
+    }
+
+}
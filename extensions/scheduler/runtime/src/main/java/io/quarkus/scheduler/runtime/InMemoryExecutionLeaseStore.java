@@ -0,0 +1,44 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import jakarta.inject.Singleton;
+
+import io.quarkus.arc.DefaultBean;
+import io.quarkus.scheduler.spi.ExecutionLeaseStore;
+
+/**
+ * The executions are only coordinated within a single application instance. This implementation is mostly useful for
+ * testing.
+ */
+@DefaultBean
+@Singleton
+public class InMemoryExecutionLeaseStore implements ExecutionLeaseStore {
+
+    // jobId -> lease
+    private final ConcurrentMap<String, Lease> leases = new ConcurrentHashMap<>();
+
+    @Override
+    public CompletionStage<Boolean> tryAcquire(String jobId, Instant scheduledFireTime, String nodeId,
+            Duration leaseDuration) {
+        long now = System.currentTimeMillis();
+        Lease lease = new Lease(scheduledFireTime, nodeId, now + leaseDuration.toMillis());
+        Lease result = leases.merge(jobId, lease, (existing, newLease) -> {
+            if (existing.expiresAt < now || existing.scheduledFireTime.isBefore(newLease.scheduledFireTime)) {
+                // The existing lease expired or was acquired for a previous execution
+                return newLease;
+            }
+            return existing;
+        });
+        return CompletableFuture.completedStage(result == lease);
+    }
+
+    record Lease(Instant scheduledFireTime, String nodeId, long expiresAt) {
+    }
+
+}
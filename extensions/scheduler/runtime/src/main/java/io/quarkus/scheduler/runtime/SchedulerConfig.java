@@ -47,4 +47,13 @@ public interface SchedulerConfig {
     @WithDefault("false")
     boolean useCompositeScheduler();
 
+    /**
+     * If set to {@code true} then each execution of a job scheduled by the simple scheduler must be claimed via the
+     * {@link io.quarkus.scheduler.spi.ExecutionLeaseStore} first, so that a job is only executed by one application
+     * instance at a time.
+     */
+    @WithName("cluster.enabled")
+    @WithDefault("false")
+    boolean clusterEnabled();
+
 }
@@ -1,6 +1,7 @@
 package io.quarkus.scheduler.runtime;
 
 import java.time.Duration;
+import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -31,6 +32,28 @@ public interface SchedulerRuntimeConfig {
     @WithDefault("normal")
     StartMode startMode();
 
+    /**
+     * Cluster mode of the simple scheduler.
+     *
+     * @see SchedulerConfig#clusterEnabled()
+     */
+    Cluster cluster();
+
+    interface Cluster {
+
+        /**
+         * The identifier of this application instance. A random UUID is used by default.
+         */
+        Optional<String> nodeId();
+
+        /**
+         * The claim of an execution may be discarded after this period of time.
+         */
+        @WithDefault("1m")
+        Duration leaseDuration();
+
+    }
+
     enum StartMode {
 
         /**
@@ -10,14 +10,17 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import jakarta.annotation.PreDestroy;
@@ -53,12 +56,14 @@
 import io.quarkus.scheduler.common.runtime.CronParser;
 import io.quarkus.scheduler.common.runtime.DefaultInvoker;
 import io.quarkus.scheduler.common.runtime.Events;
+import io.quarkus.scheduler.common.runtime.ExecutionLeaseInvoker;
 import io.quarkus.scheduler.common.runtime.ScheduledInvoker;
 import io.quarkus.scheduler.common.runtime.ScheduledMethod;
 import io.quarkus.scheduler.common.runtime.SchedulerContext;
 import io.quarkus.scheduler.common.runtime.SyntheticScheduled;
 import io.quarkus.scheduler.common.runtime.util.SchedulerUtils;
 import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.StartMode;
+import io.quarkus.scheduler.spi.ExecutionLeaseStore;
 import io.quarkus.scheduler.spi.JobInstrumenter;
 import io.vertx.core.Vertx;
 
@@ -74,7 +79,15 @@ public class SimpleScheduler extends BaseScheduler implements Scheduler {
     private final ScheduledExecutorService scheduledExecutor;
     private volatile boolean running;
     private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
+    // Ordered by the time of the next check so that only the tasks that are due are evaluated
+    private final PriorityBlockingQueue<TaskCheck> taskChecks;
+    // The number of jobs unscheduled since the checks of unscheduled tasks were last purged
+    private final AtomicInteger unscheduledTasks = new AtomicInteger();
     private final SchedulerConfig schedulerConfig;
+    // null if the cluster mode is disabled
+    private final ExecutionLeaseStore leaseStore;
+    private final String nodeId;
+    private final Duration leaseDuration;
 
     public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
             Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successExecutionEvent,
@@ -82,14 +95,25 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
             Event<SchedulerPaused> schedulerPausedEvent, Event<SchedulerResumed> schedulerResumedEvent,
             Event<ScheduledJobPaused> scheduledJobPausedEvent,
             Event<ScheduledJobResumed> scheduledJobResumedEvent, Vertx vertx, SchedulerConfig schedulerConfig,
-            Instance<JobInstrumenter> jobInstrumenter, ScheduledExecutorService blockingExecutor) {
+            Instance<JobInstrumenter> jobInstrumenter, ScheduledExecutorService blockingExecutor,
+            Instance<ExecutionLeaseStore> leaseStore) {
         super(vertx, new CronParser(context.getCronType()), schedulerRuntimeConfig.overdueGracePeriod(),
                 new Events(skippedExecutionEvent, successExecutionEvent, failedExecutionEvent, delayedExecutionEvent,
                         schedulerPausedEvent, schedulerResumedEvent, scheduledJobPausedEvent, scheduledJobResumedEvent),
                 jobInstrumenter, blockingExecutor);
         this.running = true;
         this.scheduledTasks = new ConcurrentHashMap<>();
+        this.taskChecks = new PriorityBlockingQueue<>();
         this.schedulerConfig = schedulerConfig;
+        if (schedulerConfig.clusterEnabled()) {
+            this.leaseStore = leaseStore.get();
+            this.nodeId = schedulerRuntimeConfig.cluster().nodeId().orElseGet(() -> UUID.randomUUID().toString());
+            this.leaseDuration = schedulerRuntimeConfig.cluster().leaseDuration();
+        } else {
+            this.leaseStore = null;
+            this.nodeId = null;
+            this.leaseDuration = null;
+        }
 
         if (!schedulerRuntimeConfig.enabled()) {
             this.scheduledExecutor = null;
@@ -123,7 +147,7 @@ public Thread newThread(Runnable runnable) {
                 return t;
             }
         };
-        // This executor is used to check all registered triggers every second
+        // This executor is used to check the registered triggers that are due every second
         this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(1, tf, new Runnable() {
             @Override
             public void run() {
@@ -156,8 +180,11 @@ public void run() {
                     }
                     ScheduledInvoker invoker = initInvoker(context.createInvoker(method.getInvokerClassName()), events,
                             scheduled.concurrentExecution(), initSkipPredicate(scheduled.skipExecutionIf()), instrumenter,
-                            vertx, false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor);
-                    scheduledTasks.put(trigger.get().id, new ScheduledTask(trigger.get(), invoker, false));
+                            vertx, false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor,
+                            executionLease(trigger.get()));
+                    ScheduledTask task = new ScheduledTask(trigger.get(), invoker, false);
+                    scheduledTasks.put(trigger.get().id, task);
+                    taskChecks.add(new TaskCheck(task, task.trigger.nextCheck()));
                 }
             }
         }
@@ -196,6 +223,7 @@ public Trigger unscheduleJob(String identity) {
             ScheduledTask task = scheduledTasks.get(parsedIdentity);
             if (task != null && task.isProgrammatic) {
                 if (scheduledTasks.remove(task.trigger.id) != null) {
+                    purgeTaskChecks();
                     return task.trigger;
                 }
             }
@@ -203,6 +231,15 @@ public Trigger unscheduleJob(String identity) {
         return null;
     }
 
+    private void purgeTaskChecks() {
+        // The check of an unscheduled task would otherwise stay in the queue until its next fire time, i.e. possibly forever
+        // for a cron job; the queue is purged once at least half of the checks belong to unscheduled tasks
+        if (unscheduledTasks.incrementAndGet() > taskChecks.size() / 2) {
+            unscheduledTasks.set(0);
+            taskChecks.removeIf(check -> scheduledTasks.get(check.task.trigger.id) != check.task);
+        }
+    }
+
     // Use Interceptor.Priority.PLATFORM_BEFORE to start the scheduler before regular StartupEvent observers
     void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEvent event) {
         if (scheduledExecutor == null) {
@@ -233,9 +270,25 @@ void checkTriggers() {
             return;
         }
         ZonedDateTime now = ZonedDateTime.now();
+        long nowMillis = now.toInstant().toEpochMilli();
         LOG.tracef("Check triggers at %s", now);
-        for (ScheduledTask task : scheduledTasks.values()) {
+        TaskCheck check;
+        while ((check = taskChecks.poll()) != null) {
+            if (check.time > nowMillis) {
+                // No more tasks to check
+                taskChecks.add(check);
+                break;
+            }
+            ScheduledTask task = check.task;
+            if (scheduledTasks.get(task.trigger.id) != task) {
+                // Unscheduled in the meantime
+                continue;
+            }
             task.execute(now, vertx);
+            if (scheduledTasks.get(task.trigger.id) == task) {
+                // A task that was not fired, e.g. because it's paused, is checked again during the next period
+                taskChecks.add(new TaskCheck(task, Math.max(task.trigger.nextCheck(), nowMillis + 1)));
+            }
         }
     }
 
@@ -340,6 +393,15 @@ public Trigger getScheduledJob(String identity) {
         return null;
     }
 
+    private UnaryOperator<ScheduledInvoker> executionLease(SimpleTrigger trigger) {
+        if (leaseStore == null) {
+            return null;
+        }
+        long interval = trigger instanceof IntervalTrigger intervalTrigger ? intervalTrigger.interval : 0;
+        return invoker -> new ExecutionLeaseInvoker(invoker, leaseStore, nodeId, leaseDuration, interval,
+                events.skippedExecution, events.failedExecution);
+    }
+
     Optional<SimpleTrigger> createTrigger(String id, String methodDescription, Scheduled scheduled,
             Duration defaultGracePeriod) {
         ZonedDateTime start = ZonedDateTime.now().truncatedTo(ChronoUnit.SECONDS);
@@ -401,6 +463,24 @@ void execute(ZonedDateTime now, Vertx vertx) {
 
     }
 
+    static final class TaskCheck implements Comparable<TaskCheck> {
+
+        final ScheduledTask task;
+        // epoch milliseconds
+        final long time;
+
+        TaskCheck(ScheduledTask task, long time) {
+            this.task = task;
+            this.time = time;
+        }
+
+        @Override
+        public int compareTo(TaskCheck other) {
+            return Long.compare(time, other.time);
+        }
+
+    }
+
     static abstract class SimpleTrigger implements Trigger {
 
         protected final String id;
@@ -422,6 +502,13 @@ static abstract class SimpleTrigger implements Trigger {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * The trigger is not evaluated before the returned time.
+         *
+         * @return the epoch milliseconds of the earliest time the trigger may fire
+         */
+        abstract long nextCheck();
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -492,6 +579,16 @@ public Instant getNextFireTime() {
             return last.plus(Duration.ofMillis(interval)).toInstant();
         }
 
+        @Override
+        long nextCheck() {
+            ZonedDateTime last = lastFireTime;
+            if (last == null) {
+                // The first execution is not aligned with the interval
+                return start.toInstant().toEpochMilli();
+            }
+            return last.toInstant().toEpochMilli() + interval;
+        }
+
         @Override
         public boolean isOverdue() {
             ZonedDateTime now = ZonedDateTime.now();
@@ -533,6 +630,13 @@ public Instant getNextFireTime() {
             return executionTime.nextExecution(lastFireTime).map(ZonedDateTime::toInstant).orElse(null);
         }
 
+        @Override
+        long nextCheck() {
+            Instant next = getNextFireTime();
+            // No more executions
+            return next != null ? next.toEpochMilli() : Long.MAX_VALUE;
+        }
+
         @Override
         ZonedDateTime evaluate(ZonedDateTime now) {
             if (now.isBefore(start)) {
@@ -666,12 +770,14 @@ public boolean isBlocking() {
                     instrumenter = jobInstrumenter.get();
                 }
                 invoker = initInvoker(invoker, events, concurrentExecution, skipPredicate, instrumenter, vertx,
-                        false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor);
+                        false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor,
+                        executionLease(simpleTrigger));
                 ScheduledTask scheduledTask = new ScheduledTask(trigger.get(), invoker, true);
                 ScheduledTask existing = scheduledTasks.putIfAbsent(simpleTrigger.id, scheduledTask);
                 if (existing != null) {
                     throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
                 }
+                taskChecks.add(new TaskCheck(scheduledTask, simpleTrigger.nextCheck()));
                 return simpleTrigger;
             }
             return null;
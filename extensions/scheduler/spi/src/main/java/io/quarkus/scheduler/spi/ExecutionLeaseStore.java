@@ -0,0 +1,36 @@
+package io.quarkus.scheduler.spi;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Coordinates the executions of scheduled jobs across multiple application instances (nodes) if the cluster mode of the
+ * simple scheduler is enabled.
+ * <p>
+ * Before a job is executed, the scheduler attempts to claim the execution. The execution is skipped if another node has
+ * already claimed the execution of the same job scheduled at the same time. The execution is only claimed if it is not
+ * skipped by the node itself, e.g. because of {@code skipExecutionIf} or {@code ConcurrentExecution.SKIP}. If the claim
+ * fails, the execution is not performed and a {@code FailedExecution} event is fired.
+ * <p>
+ * Extensions and applications can provide exactly one CDI bean of this type, e.g. backed by a database table or a key-value
+ * store. The scope must be either {@link jakarta.inject.Singleton} or {@link jakarta.enterprise.context.ApplicationScoped}.
+ * If no bean is provided then an in-memory implementation that only coordinates the executions within a single application
+ * instance is used.
+ */
+public interface ExecutionLeaseStore {
+
+    /**
+     * Attempts to claim the execution of a job. The implementation must not block the caller thread.
+     *
+     * @param jobId the identity of the job
+     * @param scheduledFireTime the time the execution was scheduled for; aligned to the interval for jobs scheduled with a
+     *        fixed interval, truncated to seconds otherwise
+     * @param nodeId the identifier of the node that attempts to claim the execution
+     * @param leaseDuration the claim may be discarded after this period of time
+     * @return a completion stage completed with {@code true} if the execution was claimed by the given node,
+     *         {@code false} otherwise
+     */
+    CompletionStage<Boolean> tryAcquire(String jobId, Instant scheduledFireTime, String nodeId, Duration leaseDuration);
+
+}
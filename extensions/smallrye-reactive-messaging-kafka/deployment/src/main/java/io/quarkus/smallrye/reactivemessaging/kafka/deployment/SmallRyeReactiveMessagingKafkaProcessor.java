@@ -888,10 +888,11 @@ private Result deserializerFor(DefaultSerdeDiscoveryState discovery,
                 String clazz = JacksonSerdeGenerator.generateDeserializer(generatedClass, type);
                 LOGGER.infof("Generating Jackson deserializer for type %s", type.name().toString());
                 // Deserializers are access by reflection.
+                // The deserialize methods are also looked up to read the record buffer directly.
                 reflection.produce(
                         ReflectiveClassBuildItem.builder(clazz)
                                 .reason(getClass().getName())
-                                .methods().build());
+                                .methods().queryMethods().build());
                 alreadyGeneratedDeserializers.put(type.name().toString(), result);
                 // if the channel has a DLQ config generate a serializer as well
                 if (hasDLQConfig(channelName, discovery.getConfig())) {
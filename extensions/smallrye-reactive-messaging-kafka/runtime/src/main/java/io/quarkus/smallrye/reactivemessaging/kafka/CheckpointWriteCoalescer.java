@@ -0,0 +1,92 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.apache.kafka.common.TopicPartition;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.smallrye.reactive.messaging.kafka.commit.ProcessingState;
+
+/**
+ * Coalesces the processing states persisted while a previous write to the state store is still in progress.
+ * <p>
+ * At most one write is in progress at any time. The states received in the meantime are merged, keeping the latest state
+ * per topic-partition, and written with a single call once the write in progress completes. Each returned {@link Uni}
+ * completes when a write including its states completes, so the persisted state is never older than the latest
+ * acknowledged one by more than a single write.
+ */
+final class CheckpointWriteCoalescer {
+
+    private final Function<Map<TopicPartition, ProcessingState<?>>, Uni<Void>> writer;
+
+    // guarded by this
+    private Map<TopicPartition, ProcessingState<?>> pending = new HashMap<>();
+    private List<UniEmitter<? super Void>> waiting = new ArrayList<>();
+    private boolean writing;
+
+    CheckpointWriteCoalescer(Function<Map<TopicPartition, ProcessingState<?>>, Uni<Void>> writer) {
+        this.writer = writer;
+    }
+
+    Uni<Void> persist(Map<TopicPartition, ProcessingState<?>> states) {
+        return Uni.createFrom().emitter(emitter -> {
+            Map<TopicPartition, ProcessingState<?>> batch;
+            List<UniEmitter<? super Void>> emitters;
+            synchronized (this) {
+                pending.putAll(states);
+                waiting.add(emitter);
+                if (writing) {
+                    return;
+                }
+                writing = true;
+                batch = pending;
+                emitters = waiting;
+                pending = new HashMap<>();
+                waiting = new ArrayList<>();
+            }
+            write(batch, emitters);
+        });
+    }
+
+    private void write(Map<TopicPartition, ProcessingState<?>> batch, List<UniEmitter<? super Void>> emitters) {
+        Uni<Void> write;
+        try {
+            write = writer.apply(batch);
+        } catch (Throwable t) {
+            write = Uni.createFrom().failure(t);
+        }
+        write.subscribe().with(ignored -> {
+            for (UniEmitter<? super Void> emitter : emitters) {
+                emitter.complete(null);
+            }
+            writeNext();
+        }, failure -> {
+            for (UniEmitter<? super Void> emitter : emitters) {
+                emitter.fail(failure);
+            }
+            writeNext();
+        });
+    }
+
+    private void writeNext() {
+        Map<TopicPartition, ProcessingState<?>> batch;
+        List<UniEmitter<? super Void>> emitters;
+        synchronized (this) {
+            if (waiting.isEmpty()) {
+                writing = false;
+                return;
+            }
+            batch = pending;
+            emitters = waiting;
+            pending = new HashMap<>();
+            waiting = new ArrayList<>();
+        }
+        write(batch, emitters);
+    }
+
+}
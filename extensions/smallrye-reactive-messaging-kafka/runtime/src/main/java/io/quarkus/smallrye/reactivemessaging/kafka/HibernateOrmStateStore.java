@@ -15,6 +15,7 @@
 import org.apache.kafka.common.TopicPartition;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
 import org.hibernate.Transaction;
 
 import io.quarkus.hibernate.orm.PersistenceUnit;
@@ -31,12 +32,15 @@ public class HibernateOrmStateStore implements CheckpointStateStore {
 
     public static final String HIBERNATE_ORM_STATE_STORE = "quarkus-hibernate-orm";
     private final String consumerGroupId;
+    private final Vertx vertx;
     private final SessionFactory sf;
     private final Class<? extends CheckpointEntity> stateType;
+    private final CheckpointWriteCoalescer writeCoalescer = new CheckpointWriteCoalescer(this::write);
 
-    public HibernateOrmStateStore(String consumerGroupId, SessionFactory sf,
+    public HibernateOrmStateStore(String consumerGroupId, Vertx vertx, SessionFactory sf,
             Class<? extends CheckpointEntity> stateType) {
         this.consumerGroupId = consumerGroupId;
+        this.vertx = vertx;
         this.sf = sf;
         this.stateType = stateType;
     }
@@ -62,7 +66,7 @@ public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, V
             SessionFactory sf = persistenceUnit != null
                     ? sessionFactories.select(new PersistenceUnit.PersistenceUnitLiteral(persistenceUnit)).get()
                     : sessionFactories.get();
-            return new HibernateOrmStateStore(consumerGroupId, sf, (Class<? extends CheckpointEntity>) stateType);
+            return new HibernateOrmStateStore(consumerGroupId, vertx, sf, (Class<? extends CheckpointEntity>) stateType);
         }
     }
 
@@ -73,16 +77,11 @@ public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collect
                     .map(tp -> new CheckpointEntityId(consumerGroupId, tp))
                     .toArray(Object[]::new);
             return Vertx.currentContext().executeBlocking(Uni.createFrom().emitter(emitter -> {
-                List<CheckpointEntity> fetched = new ArrayList<>();
                 Transaction tx = null;
                 try (Session session = sf.openSession()) {
                     tx = session.beginTransaction();
-                    for (Object id : ids) {
-                        CheckpointEntity entity = session.find(stateType, id);
-                        if (entity != null) {
-                            fetched.add(entity);
-                        }
-                    }
+                    // Loads all the states with a single query, missing states are null
+                    List<CheckpointEntity> fetched = new ArrayList<>(session.findMultiple(stateType, List.of(ids)));
                     Map<TopicPartition, ProcessingState<?>> stateMap = fetched.stream()
                             .filter(e -> e != null && CheckpointEntity.topicPartition(e) != null)
                             .collect(Collectors.toMap(CheckpointEntity::topicPartition,
@@ -103,30 +102,36 @@ public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collect
 
     @Override
     public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>> state) {
-        return Uni.createFrom().deferred(() -> {
-            Object[] entities = state.entrySet().stream()
-                    .filter(e -> !ProcessingState.isEmptyOrNull(e.getValue()))
-                    .map(e -> CheckpointEntity.from((ProcessingState<? extends CheckpointEntity>) e.getValue(),
-                            new CheckpointEntityId(consumerGroupId, e.getKey())))
-                    .toArray();
-            return Vertx.currentContext().executeBlocking(Uni.createFrom().emitter(e -> {
-                Transaction tx = null;
-                try (Session session = sf.openSession()) {
-                    tx = session.beginTransaction();
-                    for (Object entity : entities) {
-                        session.merge(entity);
-                    }
-                    session.flush();
-                    tx.commit();
-                    e.complete(null);
-                } catch (Throwable t) {
-                    if (tx != null) {
-                        tx.rollback();
-                    }
-                    e.fail(t);
+        return writeCoalescer.persist(state);
+    }
+
+    private Uni<Void> write(Map<TopicPartition, ProcessingState<?>> state) {
+        List<Object> entities = state.entrySet().stream()
+                .filter(e -> !ProcessingState.isEmptyOrNull(e.getValue()))
+                .map(e -> (Object) CheckpointEntity.from((ProcessingState<? extends CheckpointEntity>) e.getValue(),
+                        new CheckpointEntityId(consumerGroupId, e.getKey())))
+                .toList();
+        if (entities.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        // A coalesced write is started from the completion of the previous one, possibly outside a Vert.x context
+        return vertx.executeBlocking(Uni.createFrom().emitter(e -> {
+            Transaction tx = null;
+            try (StatelessSession session = sf.openStatelessSession()) {
+                // All the states are upserted in a single JDBC batch
+                // The stateless session has no persistence context: no lifecycle callback, listener or cascade applies
+                session.setJdbcBatchSize(entities.size());
+                tx = session.beginTransaction();
+                session.upsertMultiple(entities);
+                tx.commit();
+                e.complete(null);
+            } catch (Throwable t) {
+                if (tx != null) {
+                    tx.rollback();
                 }
-            }));
-        });
+                e.fail(t);
+            }
+        }));
     }
 
 }
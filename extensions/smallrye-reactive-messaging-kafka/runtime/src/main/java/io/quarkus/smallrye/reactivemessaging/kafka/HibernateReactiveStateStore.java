@@ -1,5 +1,6 @@
 package io.quarkus.smallrye.reactivemessaging.kafka;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -29,6 +30,7 @@ public class HibernateReactiveStateStore implements CheckpointStateStore {
     private final String consumerGroupId;
     private final Mutiny.SessionFactory sf;
     private final Class<? extends CheckpointEntity> stateType;
+    private final CheckpointWriteCoalescer writeCoalescer = new CheckpointWriteCoalescer(this::write);
 
     public HibernateReactiveStateStore(String consumerGroupId, Mutiny.SessionFactory sf,
             Class<? extends CheckpointEntity> stateType) {
@@ -77,13 +79,27 @@ public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collect
 
     @Override
     public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>> state) {
+        return writeCoalescer.persist(state);
+    }
+
+    private Uni<Void> write(Map<TopicPartition, ProcessingState<?>> state) {
         return Uni.createFrom().deferred(() -> {
             Object[] entities = state.entrySet().stream()
                     .filter(e -> !ProcessingState.isEmptyOrNull(e.getValue()))
                     .map(e -> CheckpointEntity.from((ProcessingState<? extends CheckpointEntity>) e.getValue(),
                             new CheckpointEntityId(consumerGroupId, e.getKey())))
                     .toArray();
-            return sf.withTransaction(s -> s.mergeAll(entities));
+            if (entities.length == 0) {
+                return Uni.createFrom().voidItem();
+            }
+            Object[] ids = Arrays.stream(entities)
+                    .map(entity -> ((CheckpointEntity) entity).getId())
+                    .toArray();
+            // Loading the current states with a single query first avoids a select per merged entity,
+            // and the updates are flushed in a single batch
+            return sf.withTransaction(s -> s.setBatchSize(entities.length)
+                    .find(stateType, ids)
+                    .chain(() -> s.mergeAll(entities)));
         }).runSubscriptionOn(HibernateReactiveStateStore::runOnSafeContext);
     }
 
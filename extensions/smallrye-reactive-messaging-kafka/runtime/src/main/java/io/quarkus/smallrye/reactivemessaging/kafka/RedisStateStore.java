@@ -39,6 +39,7 @@ public class RedisStateStore implements CheckpointStateStore {
     private final String consumerGroupId;
     private final ProcessingStateCodec stateCodec;
     private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final CheckpointWriteCoalescer writeCoalescer = new CheckpointWriteCoalescer(this::write);
 
     public RedisStateStore(ReactiveRedisDataSource redis, String consumerGroupId, ProcessingStateCodec stateCodec) {
         this.redis = redis;
@@ -112,6 +113,14 @@ public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>>
         if (states.isEmpty() || closed.get()) {
             return Uni.createFrom().voidItem();
         }
+        return writeCoalescer.persist(states);
+    }
+
+    private Uni<Void> write(Map<TopicPartition, ProcessingState<?>> states) {
+        if (states.isEmpty() || closed.get()) {
+            return Uni.createFrom().voidItem();
+        }
+        // All the newer states are written with a single MSET, in a transaction watching the current states
         String[] keys = states.keySet().stream().map(this::getKey).toArray(String[]::new);
         return redis.withTransaction(r -> r.value(byte[].class).mget(keys), (current, r) -> {
             Map<String, byte[]> map = states.entrySet().stream().filter(toPersist -> {
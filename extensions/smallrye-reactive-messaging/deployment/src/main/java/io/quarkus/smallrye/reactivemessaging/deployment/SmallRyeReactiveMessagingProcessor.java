@@ -78,6 +78,8 @@
 import io.quarkus.smallrye.reactivemessaging.runtime.DuplicatedContextConnectorFactoryInterceptor;
 import io.quarkus.smallrye.reactivemessaging.runtime.HealthCenterFilter;
 import io.quarkus.smallrye.reactivemessaging.runtime.HealthCenterInterceptor;
+import io.quarkus.smallrye.reactivemessaging.runtime.KeyOrderedDecorator;
+import io.quarkus.smallrye.reactivemessaging.runtime.MicroBatchingDecorator;
 import io.quarkus.smallrye.reactivemessaging.runtime.QuarkusMediatorConfiguration;
 import io.quarkus.smallrye.reactivemessaging.runtime.QuarkusWorkerPoolRegistry;
 import io.quarkus.smallrye.reactivemessaging.runtime.ReactiveMessagingConfigBuilderCustomizer;
@@ -115,7 +117,8 @@ void beans(BuildProducer<AdditionalBeanBuildItem> additionalBean, ReactiveMessag
         // We add the connector and channel qualifiers to make them part of the index.
         additionalBean.produce(new AdditionalBeanBuildItem(SmallRyeReactiveMessagingLifecycle.class, Connector.class,
                 Channel.class, io.smallrye.reactive.messaging.annotations.Channel.class,
-                QuarkusWorkerPoolRegistry.class, ConnectorContextPropagationDecorator.class, ContextualEmitterFactory.class));
+                QuarkusWorkerPoolRegistry.class, ConnectorContextPropagationDecorator.class, ContextualEmitterFactory.class,
+                MicroBatchingDecorator.class, KeyOrderedDecorator.class));
         if (buildTimeConfig.activateRequestScopeEnabled()) {
             additionalBean.produce(new AdditionalBeanBuildItem(RequestScopedDecorator.class));
         }
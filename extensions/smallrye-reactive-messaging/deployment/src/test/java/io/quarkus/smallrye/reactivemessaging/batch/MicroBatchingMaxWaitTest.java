@@ -0,0 +1,87 @@
+package io.quarkus.smallrye.reactivemessaging.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.spi.Connector;
+import org.eclipse.microprofile.reactive.messaging.spi.IncomingConnectorFactory;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Multi;
+import mutiny.zero.flow.adapters.AdaptersToReactiveStreams;
+
+public class MicroBatchingMaxWaitTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(LettersConnector.class, BatchConsumer.class))
+            .overrideConfigKey("mp.messaging.incoming.letters.connector", "letters")
+            .overrideConfigKey("mp.messaging.incoming.letters.micro-batch.max-size", "2")
+            .overrideConfigKey("mp.messaging.incoming.letters.micro-batch.max-wait", "100ms");
+
+    @Inject
+    BatchConsumer consumer;
+
+    @Inject
+    LettersConnector connector;
+
+    @Test
+    public void testPartialBatchEmittedAfterMaxWait() {
+        // The stream never completes, so the last partial batch is emitted when the max wait elapsed
+        await().until(() -> connector.acked.size() == 3);
+        assertThat(consumer.batches).containsExactly(List.of("a", "b"), List.of("c"));
+        assertThat(connector.acked).containsExactly("a", "b", "c");
+        // No more than one batch is requested ahead of the received messages
+        assertThat(connector.requested.get()).isLessThanOrEqualTo(3 + 2);
+    }
+
+    @ApplicationScoped
+    public static class BatchConsumer {
+
+        final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+        @Incoming("letters")
+        public void consume(List<String> batch) {
+            batches.add(batch);
+        }
+
+    }
+
+    @ApplicationScoped
+    @Connector("letters")
+    public static class LettersConnector implements IncomingConnectorFactory {
+
+        final List<String> acked = new CopyOnWriteArrayList<>();
+        final AtomicLong requested = new AtomicLong();
+
+        @Override
+        public PublisherBuilder<? extends Message<?>> getPublisherBuilder(Config config) {
+            Multi<Message<String>> letters = Multi.createBy().concatenating()
+                    .streams(Multi.createFrom().items("a", "b", "c"), Multi.createFrom().<String> nothing())
+                    .onRequest().invoke(requested::addAndGet)
+                    .map(letter -> Message.of(letter, () -> {
+                        acked.add(letter);
+                        return CompletableFuture.completedFuture(null);
+                    }));
+            return ReactiveStreams.fromPublisher(AdaptersToReactiveStreams.publisher(letters));
+        }
+
+    }
+
+}
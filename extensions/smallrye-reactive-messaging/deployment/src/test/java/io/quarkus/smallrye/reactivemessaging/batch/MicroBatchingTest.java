@@ -0,0 +1,78 @@
+package io.quarkus.smallrye.reactivemessaging.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.spi.Connector;
+import org.eclipse.microprofile.reactive.messaging.spi.IncomingConnectorFactory;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class MicroBatchingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(LettersConnector.class, BatchConsumer.class))
+            .overrideConfigKey("mp.messaging.incoming.letters.connector", "letters")
+            .overrideConfigKey("mp.messaging.incoming.letters.micro-batch.max-size", "2")
+            .overrideConfigKey("mp.messaging.incoming.letters.micro-batch.max-wait", "10s");
+
+    @Inject
+    BatchConsumer consumer;
+
+    @Inject
+    LettersConnector connector;
+
+    @Test
+    public void testBatches() {
+        await().until(() -> connector.acked.size() == 5);
+        // The last partial batch is emitted when the stream completes
+        assertThat(consumer.batches).containsExactly(List.of("a", "b"), List.of("c", "d"), List.of("e"));
+        assertThat(connector.acked).containsExactly("a", "b", "c", "d", "e");
+    }
+
+    @ApplicationScoped
+    public static class BatchConsumer {
+
+        final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+        @Incoming("letters")
+        public void consume(List<String> batch) {
+            batches.add(batch);
+        }
+
+    }
+
+    @ApplicationScoped
+    @Connector("letters")
+    public static class LettersConnector implements IncomingConnectorFactory {
+
+        final List<String> acked = new CopyOnWriteArrayList<>();
+
+        @Override
+        public PublisherBuilder<? extends Message<?>> getPublisherBuilder(Config config) {
+            return ReactiveStreams.of("a", "b", "c", "d", "e")
+                    .map(letter -> Message.of(letter, () -> {
+                        acked.add(letter);
+                        return CompletableFuture.completedFuture(null);
+                    }));
+        }
+
+    }
+
+}
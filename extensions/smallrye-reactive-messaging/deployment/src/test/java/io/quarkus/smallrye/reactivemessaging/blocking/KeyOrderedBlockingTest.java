@@ -0,0 +1,134 @@
+package io.quarkus.smallrye.reactivemessaging.blocking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.spi.Connector;
+import org.eclipse.microprofile.reactive.messaging.spi.IncomingConnectorFactory;
+import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.reactive.messaging.annotations.Blocking;
+import io.smallrye.reactive.messaging.keyed.KeyValueExtractor;
+
+public class KeyOrderedBlockingTest {
+
+    static final int MESSAGES_PER_KEY = 5;
+    static final List<String> KEYS = List.of("a", "b", "c", "d");
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(KeyedConnector.class, KeyMetadata.class, KeyMetadataExtractor.class, Consumer.class))
+            .overrideConfigKey("mp.messaging.incoming.keyed.connector", "keyed")
+            .overrideConfigKey("mp.messaging.incoming.keyed.key-ordered", "true");
+
+    @Inject
+    Consumer consumer;
+
+    @Inject
+    KeyedConnector connector;
+
+    @Test
+    public void testSameKeyProcessedSequentially() {
+        await().atMost(Duration.ofSeconds(30)).until(() -> connector.acked.get() == MESSAGES_PER_KEY * KEYS.size());
+        assertThat(consumer.overlaps.get()).isZero();
+        // Different keys are processed concurrently
+        assertThat(consumer.maxConcurrency.get()).isGreaterThan(1);
+        for (String key : KEYS) {
+            assertThat(consumer.processed.get(key)).containsExactly(IntStream.range(0, MESSAGES_PER_KEY).boxed()
+                    .toArray(Integer[]::new));
+        }
+    }
+
+    @ApplicationScoped
+    public static class Consumer {
+
+        final Map<String, List<Integer>> processed = new ConcurrentHashMap<>();
+        final Set<String> inProgress = ConcurrentHashMap.newKeySet();
+        final AtomicInteger overlaps = new AtomicInteger();
+        final AtomicInteger concurrency = new AtomicInteger();
+        final AtomicInteger maxConcurrency = new AtomicInteger();
+
+        @Incoming("keyed")
+        @Blocking(ordered = false)
+        public void consume(Message<Integer> message) throws InterruptedException {
+            String key = message.getMetadata(KeyMetadata.class).orElseThrow().key();
+            if (!inProgress.add(key)) {
+                overlaps.incrementAndGet();
+            }
+            maxConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+                processed.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(message.getPayload());
+            } finally {
+                concurrency.decrementAndGet();
+                inProgress.remove(key);
+            }
+        }
+
+    }
+
+    public record KeyMetadata(String key) {
+    }
+
+    @ApplicationScoped
+    public static class KeyMetadataExtractor implements KeyValueExtractor {
+
+        @Override
+        public boolean canExtract(Message<?> first, Type keyType, Type valueType) {
+            return first.getMetadata(KeyMetadata.class).isPresent();
+        }
+
+        @Override
+        public Object extractKey(Message<?> message, Type keyType) {
+            return message.getMetadata(KeyMetadata.class).orElseThrow().key();
+        }
+
+        @Override
+        public Object extractValue(Message<?> message, Type valueType) {
+            return message.getPayload();
+        }
+
+    }
+
+    @ApplicationScoped
+    @Connector("keyed")
+    public static class KeyedConnector implements IncomingConnectorFactory {
+
+        final AtomicInteger acked = new AtomicInteger();
+
+        @Override
+        public PublisherBuilder<? extends Message<?>> getPublisherBuilder(Config config) {
+            return ReactiveStreams.fromIterable(IntStream.range(0, MESSAGES_PER_KEY).boxed().toList())
+                    .flatMapIterable(i -> KEYS.stream()
+                            .map(key -> Message.of(i, () -> {
+                                acked.incrementAndGet();
+                                return CompletableFuture.completedFuture(null);
+                            }).addMetadata(new KeyMetadata(key)))
+                            .toList());
+        }
+
+    }
+
+}
@@ -0,0 +1,110 @@
+package io.quarkus.smallrye.reactivemessaging.runtime;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.PublisherDecorator;
+import io.smallrye.reactive.messaging.keyed.KeyValueExtractor;
+import io.smallrye.reactive.messaging.providers.locals.LocalContextMetadata;
+import io.vertx.core.Context;
+
+/**
+ * Marks the messages of an incoming connector channel with their key if {@code mp.messaging.incoming.[channel].key-ordered}
+ * is set to {@code true}. The key is extracted with the first {@link KeyValueExtractor} that can handle the first message of
+ * the channel and stored in the local data of the message context.
+ * <p>
+ * The {@link QuarkusWorkerPoolRegistry} then executes the unordered blocking invocations for messages with the same key
+ * sequentially, while messages with different keys are still processed concurrently.
+ */
+@ApplicationScoped
+public class KeyOrderedDecorator implements PublisherDecorator {
+
+    static final String KEY_ORDERED = "key-ordered";
+    static final String ORDERING_KEY = KeyOrderedDecorator.class.getName() + ".key";
+
+    private final List<KeyValueExtractor> extractors;
+
+    @Inject
+    public KeyOrderedDecorator(@Any Instance<KeyValueExtractor> extractors) {
+        this.extractors = extractors.stream()
+                .sorted(Comparator.comparingInt(KeyValueExtractor::getPriority))
+                .toList();
+    }
+
+    @Override
+    public Multi<? extends Message<?>> decorate(Multi<? extends Message<?>> publisher, List<String> channelName,
+            boolean isConnector) {
+        if (!isConnector || channelName.size() != 1) {
+            return publisher;
+        }
+        String channel = channelName.get(0);
+        if (!ConfigProvider.getConfig()
+                .getOptionalValue("mp.messaging.incoming." + channel + "." + KEY_ORDERED, Boolean.class)
+                .orElse(false)) {
+            return publisher;
+        }
+        ChannelKeys keys = new ChannelKeys(channel);
+        return publisher.map(message -> {
+            Optional<LocalContextMetadata> metadata = message.getMetadata(LocalContextMetadata.class);
+            if (metadata.isPresent() && metadata.get().context() != null) {
+                Context context = metadata.get().context();
+                context.putLocal(ORDERING_KEY, keys.orderingKey(message));
+            }
+            return message;
+        });
+    }
+
+    @Override
+    public int getPriority() {
+        // After the io.smallrye.reactive.messaging.providers.locals.ContextDecorator which has the priority 0 and makes sure
+        // that every message has a context
+        return 50;
+    }
+
+    final class ChannelKeys {
+
+        private final String channel;
+        private volatile KeyValueExtractor extractor;
+
+        ChannelKeys(String channel) {
+            this.channel = channel;
+        }
+
+        OrderingKey orderingKey(Message<?> message) {
+            KeyValueExtractor extractor = this.extractor;
+            if (extractor == null) {
+                extractor = findExtractor(message);
+                this.extractor = extractor;
+            }
+            return new OrderingKey(channel, extractor.extractKey(message, Object.class));
+        }
+
+        private KeyValueExtractor findExtractor(Message<?> message) {
+            for (KeyValueExtractor extractor : extractors) {
+                if (extractor.canExtract(message, Object.class, Object.class)) {
+                    return extractor;
+                }
+            }
+            throw new IllegalStateException("No KeyValueExtractor is able to extract the key of a message from the channel "
+                    + channel + " configured with " + KEY_ORDERED + "=true");
+        }
+
+    }
+
+    /**
+     * Messages from the same channel with equal keys share the same ordering key; {@code null} keys are allowed.
+     */
+    record OrderingKey(String channel, Object key) {
+    }
+
+}
@@ -0,0 +1,300 @@
+package io.quarkus.smallrye.reactivemessaging.runtime;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.ParameterValidation;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.AbstractMultiOperator;
+import io.smallrye.mutiny.subscription.MultiSubscriber;
+import io.smallrye.reactive.messaging.PublisherDecorator;
+
+/**
+ * Groups the messages of an incoming connector channel into batches if
+ * {@code mp.messaging.incoming.[channel].micro-batch.max-size} is set. The payload of a batch message is a {@link List} of
+ * payloads of the grouped messages, so the consuming method can declare a {@code List<T>} parameter. A batch is emitted when
+ * the max size is reached or when {@code micro-batch.max-wait} elapsed since the first message of the batch was received.
+ * <p>
+ * A batch message is acknowledged (or negatively acknowledged) by acknowledging all the grouped messages, in order.
+ */
+@ApplicationScoped
+public class MicroBatchingDecorator implements PublisherDecorator {
+
+    static final String MAX_SIZE = "micro-batch.max-size";
+    static final String MAX_WAIT = "micro-batch.max-wait";
+    static final Duration DEFAULT_MAX_WAIT = Duration.ofSeconds(1);
+
+    @Override
+    public Multi<? extends Message<?>> decorate(Multi<? extends Message<?>> publisher, List<String> channelName,
+            boolean isConnector) {
+        if (!isConnector || channelName.size() != 1) {
+            return publisher;
+        }
+        Config config = ConfigProvider.getConfig();
+        String prefix = "mp.messaging.incoming." + channelName.get(0) + ".";
+        Optional<Integer> maxSize = config.getOptionalValue(prefix + MAX_SIZE, Integer.class);
+        if (maxSize.isEmpty()) {
+            return publisher;
+        }
+        Duration maxWait = config.getOptionalValue(prefix + MAX_WAIT, Duration.class).orElse(DEFAULT_MAX_WAIT);
+        return new MicroBatchOperator(publisher, ParameterValidation.positive(maxSize.get(), MAX_SIZE),
+                ParameterValidation.validate(maxWait, MAX_WAIT), Infrastructure.getDefaultWorkerPool());
+    }
+
+    @Override
+    public int getPriority() {
+        // After the ConnectorContextPropagationDecorator and before the
+        // io.smallrye.reactive.messaging.providers.locals.ContextDecorator so that a batch is dispatched on the context of
+        // its last message
+        return -50;
+    }
+
+    static Message<?> toBatch(List<Message<?>> messages) {
+        List<Object> payloads = new ArrayList<>(messages.size());
+        for (Message<?> message : messages) {
+            payloads.add(message.getPayload());
+        }
+        return Message.of(payloads, messages.get(messages.size() - 1).getMetadata(), () -> {
+            CompletionStage<Void> ack = CompletableFuture.completedStage(null);
+            for (Message<?> message : messages) {
+                ack = ack.thenCompose(ignored -> message.ack());
+            }
+            return ack;
+        }, failure -> {
+            CompletionStage<Void> nack = CompletableFuture.completedStage(null);
+            for (Message<?> message : messages) {
+                nack = nack.thenCompose(ignored -> message.nack(failure));
+            }
+            return nack;
+        });
+    }
+
+    static final class MicroBatchOperator extends AbstractMultiOperator<Message<?>, Message<?>> {
+
+        private final int maxSize;
+        private final Duration maxWait;
+        private final ScheduledExecutorService timer;
+
+        MicroBatchOperator(Multi<? extends Message<?>> upstream, int maxSize, Duration maxWait,
+                ScheduledExecutorService timer) {
+            super(upstream);
+            this.maxSize = maxSize;
+            this.maxWait = maxWait;
+            this.timer = timer;
+        }
+
+        @Override
+        public void subscribe(MultiSubscriber<? super Message<?>> downstream) {
+            ParameterValidation.nonNullNpe(downstream, "subscriber");
+            upstream.subscribe().withSubscriber(new MicroBatchProcessor(downstream, maxSize, maxWait, timer));
+        }
+
+    }
+
+    /**
+     * Unlike {@code Multi.group().intoLists().of(size, duration)} a partial batch is only emitted if there is a downstream
+     * demand, i.e. the processor never fails with a back-pressure failure if the consumer is slow.
+     * <p>
+     * At most {@code maxSize} messages are buffered or requested from upstream at any time, and the downstream is never
+     * signalled while holding the lock.
+     */
+    static final class MicroBatchProcessor implements MultiSubscriber<Message<?>>, Flow.Subscription {
+
+        private final MultiSubscriber<? super Message<?>> downstream;
+        private final int maxSize;
+        private final Duration maxWait;
+        private final ScheduledExecutorService timer;
+
+        // All the fields below are guarded by this
+        private Flow.Subscription upstream;
+        private final List<Message<?>> buffer = new ArrayList<>();
+        private long requested;
+        // The number of messages requested from upstream and not received yet
+        private long outstanding;
+        private boolean timedOut;
+        private ScheduledFuture<?> timeout;
+        private boolean done;
+        private Throwable failure;
+        private boolean terminated;
+        // Only one thread emits the signals at a time, the others just mark that the state changed
+        private boolean emitting;
+        private boolean missed;
+
+        MicroBatchProcessor(MultiSubscriber<? super Message<?>> downstream, int maxSize, Duration maxWait,
+                ScheduledExecutorService timer) {
+            this.downstream = downstream;
+            this.maxSize = maxSize;
+            this.maxWait = maxWait;
+            this.timer = timer;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            synchronized (this) {
+                upstream = subscription;
+            }
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                downstream.onFailure(Subscriptions.getInvalidRequestException());
+                return;
+            }
+            synchronized (this) {
+                requested = Subscriptions.add(requested, n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            Flow.Subscription subscription;
+            synchronized (this) {
+                terminated = true;
+                buffer.clear();
+                cancelTimeout();
+                subscription = upstream;
+            }
+            if (subscription != null) {
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onItem(Message<?> item) {
+            synchronized (this) {
+                if (terminated) {
+                    return;
+                }
+                if (outstanding > 0) {
+                    outstanding--;
+                }
+                buffer.add(item);
+            }
+            drain();
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            synchronized (this) {
+                done = true;
+                this.failure = failure;
+            }
+            drain();
+        }
+
+        @Override
+        public void onCompletion() {
+            synchronized (this) {
+                done = true;
+            }
+            drain();
+        }
+
+        void onTimeout() {
+            synchronized (this) {
+                timeout = null;
+                timedOut = true;
+            }
+            drain();
+        }
+
+        private void drain() {
+            synchronized (this) {
+                if (emitting) {
+                    missed = true;
+                    return;
+                }
+                emitting = true;
+            }
+            while (true) {
+                Message<?> batch = null;
+                boolean terminate = false;
+                long credit = 0;
+                Flow.Subscription subscription;
+                // The next signals are computed while holding the lock, and emitted after releasing it
+                synchronized (this) {
+                    if (terminated) {
+                        emitting = false;
+                        return;
+                    }
+                    if (requested > 0 && !buffer.isEmpty() && (buffer.size() >= maxSize || timedOut || done)) {
+                        int size = Math.min(maxSize, buffer.size());
+                        batch = toBatch(new ArrayList<>(buffer.subList(0, size)));
+                        buffer.subList(0, size).clear();
+                        requested--;
+                    }
+                    if (buffer.isEmpty()) {
+                        timedOut = false;
+                        cancelTimeout();
+                        if (done && batch == null) {
+                            terminated = true;
+                            terminate = true;
+                        }
+                    } else if (timeout == null && !timedOut) {
+                        // The first message of a new batch
+                        timeout = timer.schedule(this::onTimeout, maxWait.toMillis(), TimeUnit.MILLISECONDS);
+                    }
+                    if (!done && !terminate && requested > 0) {
+                        // Only request the messages needed to fill the next batch
+                        credit = maxSize - buffer.size() - outstanding;
+                        if (credit > 0) {
+                            outstanding += credit;
+                        }
+                    }
+                    subscription = upstream;
+                    if (batch == null && !terminate && credit <= 0) {
+                        if (!missed) {
+                            emitting = false;
+                            return;
+                        }
+                        missed = false;
+                        continue;
+                    }
+                }
+                if (credit > 0) {
+                    subscription.request(credit);
+                }
+                if (batch != null) {
+                    downstream.onItem(batch);
+                }
+                if (terminate) {
+                    if (failure != null) {
+                        downstream.onFailure(failure);
+                    } else {
+                        downstream.onCompletion();
+                    }
+                    return;
+                }
+            }
+        }
+
+        private void cancelTimeout() {
+            if (timeout != null) {
+                timeout.cancel(false);
+                timeout = null;
+            }
+        }
+
+    }
+
+}
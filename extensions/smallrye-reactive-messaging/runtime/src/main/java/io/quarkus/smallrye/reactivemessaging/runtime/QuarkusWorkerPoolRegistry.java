@@ -5,6 +5,7 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
@@ -53,6 +54,8 @@ public class QuarkusWorkerPoolRegistry extends WorkerPoolRegistry {
     private final Map<String, WorkerPoolConfig> workerConfig = new HashMap<>();
     private final Map<String, WorkerExecutor> workerExecutors = new ConcurrentHashMap<>();
     private final Set<String> virtualThreadWorkers = initVirtualThreadWorkers();
+    // ordering key -> completion of the last work submitted with the key
+    private final Map<Object, CompletableFuture<Void>> keyOrderedTails = new ConcurrentHashMap<>();
     private volatile boolean closed = false;
 
     private static Set<String> initVirtualThreadWorkers() {
@@ -146,6 +149,16 @@ public <T> Uni<T> executeWork(Context msgContext, Uni<T> uni, String workerName,
             return Uni.createFrom().failure(new RejectedExecutionException("WorkerPoolRegistry is being shut down"));
         }
         Objects.requireNonNull(uni, "Action to execute not provided");
+        if (!ordered && msgContext != null) {
+            Object orderingKey = msgContext.getDelegate().getLocal(KeyOrderedDecorator.ORDERING_KEY);
+            if (orderingKey != null) {
+                return executeKeyOrdered(orderingKey, doExecuteWork(msgContext, uni, workerName, false));
+            }
+        }
+        return doExecuteWork(msgContext, uni, workerName, ordered);
+    }
+
+    private <T> Uni<T> doExecuteWork(Context msgContext, Uni<T> uni, String workerName, boolean ordered) {
         if (workerName == null) {
             if (msgContext != null) {
                 return msgContext.executeBlocking(uni, ordered);
@@ -158,6 +171,24 @@ public <T> Uni<T> executeWork(Context msgContext, Uni<T> uni, String workerName,
         }
     }
 
+    /**
+     * Executes the work once the previous work submitted with the same ordering key has completed. Works with different keys
+     * are not serialized.
+     */
+    private <T> Uni<T> executeKeyOrdered(Object orderingKey, Uni<T> work) {
+        return Uni.createFrom().deferred(() -> {
+            CompletableFuture<Void> done = new CompletableFuture<>();
+            CompletableFuture<Void> previous = keyOrderedTails.put(orderingKey, done);
+            Uni<T> next = previous == null ? work
+                    : Uni.createFrom().completionStage(previous).onItem().transformToUni(ignored -> work);
+            return next.onTermination().invoke(() -> {
+                done.complete(null);
+                // Only remove the tail if no other work with the same key was submitted in the meantime
+                keyOrderedTails.remove(orderingKey, done);
+            });
+        });
+    }
+
     private <T> Uni<T> runOnWorkerThread(Context msgContext, Uni<T> uni, String workerName, boolean ordered) {
         WorkerExecutor worker = getWorker(workerName);
         if (msgContext != null) {
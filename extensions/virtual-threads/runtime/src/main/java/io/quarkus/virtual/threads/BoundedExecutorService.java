@@ -0,0 +1,201 @@
+package io.quarkus.virtual.threads;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Executor service limiting the number of tasks running concurrently on the delegate executor.
+ * <p>
+ * The delegate is typically a thread-per-task executor spawning virtual threads. When the concurrency limit is reached, new
+ * tasks are queued and dispatched to the delegate once a running task completes. If the queue is full, new tasks are rejected
+ * with a {@link RejectedExecutionException}, so that the callers can apply backpressure instead of spawning an unbounded
+ * number of threads. The reactive routes respond with {@code 503} and the WebSocket endpoints fail the processing of the
+ * message, other callers propagate the exception.
+ * <p>
+ * The limit is global: tasks that submit nested tasks to this executor and wait for them can deadlock once all the slots are
+ * taken by the waiting tasks.
+ */
+class BoundedExecutorService extends AbstractExecutorService {
+
+    private static final Logger logger = Logger.getLogger("io.quarkus.virtual-threads");
+
+    private final ExecutorService delegate;
+    private final int maxConcurrency;
+    // a negative value means unbounded
+    private final int maxQueueSize;
+
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean shutdown;
+
+    BoundedExecutorService(ExecutorService delegate, int maxConcurrency, int maxQueueSize) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The max concurrency must be greater than zero: " + maxConcurrency);
+        }
+        this.delegate = Objects.requireNonNull(delegate);
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        Objects.requireNonNull(command);
+        if (shutdown) {
+            throw new RejectedExecutionException("Executor is shut down");
+        }
+        if (tryAcquire()) {
+            try {
+                dispatch(command);
+            } catch (RejectedExecutionException e) {
+                running.decrementAndGet();
+                throw e;
+            }
+            return;
+        }
+        int queueSize = queued.incrementAndGet();
+        if (maxQueueSize >= 0 && queueSize > maxQueueSize) {
+            queued.decrementAndGet();
+            throw new RejectedExecutionException("Max concurrency of " + maxConcurrency + " reached and the queue is full ["
+                    + maxQueueSize + " tasks]");
+        }
+        if (shutdown) {
+            // shutdown() may have seen an empty queue and shut down the delegate already
+            queued.decrementAndGet();
+            throw new RejectedExecutionException("Executor is shut down");
+        }
+        queue.add(command);
+        // A running task may have completed in the meantime
+        drain();
+    }
+
+    /**
+     *
+     * @return the number of tasks currently running on the delegate
+     */
+    int running() {
+        return running.get();
+    }
+
+    /**
+     *
+     * @return the number of tasks waiting for a free slot, including the tasks being dispatched
+     */
+    int queued() {
+        return queued.get();
+    }
+
+    private boolean tryAcquire() {
+        for (;;) {
+            int current = running.get();
+            if (current >= maxConcurrency) {
+                return false;
+            }
+            if (running.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void dispatch(Runnable task) {
+        delegate.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    task.run();
+                } finally {
+                    running.decrementAndGet();
+                    drain();
+                }
+            }
+        });
+    }
+
+    private void drain() {
+        while (!queue.isEmpty() && tryAcquire()) {
+            Runnable next = queue.poll();
+            if (next == null) {
+                // Another thread dequeued the task first
+                running.decrementAndGet();
+                continue;
+            }
+            try {
+                dispatch(next);
+            } catch (RejectedExecutionException e) {
+                running.decrementAndGet();
+                rejected(next, e);
+            } finally {
+                // The task is only removed from the queued tasks once dispatched, so that the delegate is not shut down
+                // before all the queued tasks are dispatched
+                queued.decrementAndGet();
+            }
+        }
+        if (shutdown && queued.get() == 0) {
+            delegate.shutdown();
+        }
+    }
+
+    private void rejected(Runnable task, RejectedExecutionException e) {
+        // The task was accepted by execute(), so the failure must not go unnoticed
+        if (task instanceof Future<?> future) {
+            future.cancel(false);
+        }
+        logger.warnf(e, "A queued task was rejected by the delegate executor and will not be executed: %s", task);
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        if (queued.get() == 0) {
+            delegate.shutdown();
+        }
+        // Otherwise the delegate is shut down once all queued tasks are dispatched
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        List<Runnable> pending = new ArrayList<>();
+        Runnable next;
+        while ((next = queue.poll()) != null) {
+            queued.decrementAndGet();
+            pending.add(next);
+        }
+        pending.addAll(delegate.shutdownNow());
+        return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public String toString() {
+        return "BoundedExecutorService [maxConcurrency=" + maxConcurrency + ", maxQueueSize=" + maxQueueSize + ", running="
+                + running.get() + ", queued=" + queued.get() + ", delegate=" + delegate + "]";
+    }
+
+}
@@ -2,6 +2,7 @@
 
 import java.time.Duration;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -41,4 +42,26 @@ public interface VirtualThreadsConfig {
      */
     @WithDefault("true")
     boolean enabled();
+
+    /**
+     * The maximum number of tasks that may run concurrently on virtual threads.
+     * When the limit is reached, new tasks are queued until a running task completes.
+     * <p>
+     * By default, the number of virtual threads is not limited. Setting a limit prevents an unbounded number of virtual
+     * threads, and the heap they retain, from being created under overload.
+     * <p>
+     * The limit applies to all the tasks: a task that submits nested tasks to the virtual threads executor and waits for
+     * them can deadlock once the limit is reached. This value is ignored if virtual threads are not available.
+     */
+    OptionalInt maxConcurrency();
+
+    /**
+     * The maximum number of tasks waiting for a virtual thread when the {@code max-concurrency} limit is reached.
+     * When the queue is full, new tasks are rejected with a {@link java.util.concurrent.RejectedExecutionException}:
+     * the reactive routes respond with {@code 503 Service Unavailable}, other callers such as the REST endpoints may respond
+     * with {@code 500 Internal Server Error}.
+     * <p>
+     * By default, the queue is not bounded. This value is ignored if {@code max-concurrency} is not set.
+     */
+    OptionalInt maxQueueSize();
 }
@@ -144,7 +144,12 @@ private static ExecutorService createExecutor() {
         if (config.enabled()) {
             try {
                 String prefix = config.namePrefix().orElse(null);
-                return new ContextPreservingExecutorService(newVirtualThreadPerTaskExecutorWithName(prefix));
+                ExecutorService executor = newVirtualThreadPerTaskExecutorWithName(prefix);
+                if (config.maxConcurrency().isPresent()) {
+                    executor = new BoundedExecutorService(executor, config.maxConcurrency().getAsInt(),
+                            config.maxQueueSize().orElse(-1));
+                }
+                return new ContextPreservingExecutorService(executor);
             } catch (InvocationTargetException | IllegalAccessException | NoSuchMethodException | ClassNotFoundException e) {
                 logger.debug("Unable to invoke java.util.concurrent.Executors#newVirtualThreadPerTaskExecutor", e);
                 //quite ugly but works
@@ -156,6 +161,10 @@ private static ExecutorService createExecutor() {
             }
         }
         // Fallback to regular worker threads
+        if (config.maxConcurrency().isPresent()) {
+            logger.warn("The quarkus.virtual-threads.max-concurrency and quarkus.virtual-threads.max-queue-size config"
+                    + " properties are ignored, the tasks are executed on the default blocking executor");
+        }
         return new FallbackVirtualThreadsExecutorService();
     }
 }
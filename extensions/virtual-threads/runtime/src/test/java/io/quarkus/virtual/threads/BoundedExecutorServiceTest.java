@@ -0,0 +1,145 @@
+package io.quarkus.virtual.threads;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class BoundedExecutorServiceTest {
+
+    @Test
+    void limitsConcurrency() throws InterruptedException {
+        BoundedExecutorService executor = new BoundedExecutorService(Executors.newCachedThreadPool(), 2, -1);
+        try {
+            AtomicInteger concurrent = new AtomicInteger();
+            AtomicInteger maxObserved = new AtomicInteger();
+            int tasks = 50;
+            CountDownLatch done = new CountDownLatch(tasks);
+            for (int i = 0; i < tasks; i++) {
+                executor.execute(() -> {
+                    int current = concurrent.incrementAndGet();
+                    maxObserved.accumulateAndGet(current, Math::max);
+                    try {
+                        Thread.sleep(2);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        concurrent.decrementAndGet();
+                        done.countDown();
+                    }
+                });
+            }
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(maxObserved.get()).isLessThanOrEqualTo(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() throws InterruptedException {
+        BoundedExecutorService executor = new BoundedExecutorService(Executors.newCachedThreadPool(), 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        try {
+            Runnable blocking = () -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            };
+            // running
+            executor.execute(blocking);
+            // queued
+            executor.execute(blocking);
+            assertThat(executor.queued()).isEqualTo(1);
+            assertThatThrownBy(() -> executor.execute(blocking)).isInstanceOf(RejectedExecutionException.class);
+
+            release.countDown();
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(executor.queued()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shutdownDispatchesQueuedTasks() throws InterruptedException {
+        ExecutorService delegate = Executors.newCachedThreadPool();
+        BoundedExecutorService executor = new BoundedExecutorService(delegate, 1, -1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executed = new AtomicInteger();
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            executed.incrementAndGet();
+        });
+        executor.execute(executed::incrementAndGet);
+        executor.shutdown();
+        assertThat(executor.isShutdown()).isTrue();
+        assertThatThrownBy(() -> executor.execute(executed::incrementAndGet))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(delegate.isShutdown()).isFalse();
+
+        release.countDown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shutdownDoesNotDropTasksBeingDispatched() throws InterruptedException {
+        for (int round = 0; round < 50; round++) {
+            ExecutorService delegate = Executors.newCachedThreadPool();
+            BoundedExecutorService executor = new BoundedExecutorService(delegate, 2, -1);
+            int tasks = 100;
+            AtomicInteger executed = new AtomicInteger();
+            for (int i = 0; i < tasks; i++) {
+                executor.execute(executed::incrementAndGet);
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(executed.get()).isEqualTo(tasks);
+        }
+    }
+
+    @Test
+    void rejectedQueuedTaskIsCancelled() throws InterruptedException {
+        ExecutorService delegate = Executors.newCachedThreadPool();
+        BoundedExecutorService executor = new BoundedExecutorService(delegate, 1, -1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            Future<?> queued = executor.submit(() -> {
+            });
+            // The delegate rejects the queued task once the running task completes
+            delegate.shutdown();
+            release.countDown();
+            assertThatThrownBy(() -> queued.get(10, TimeUnit.SECONDS)).isInstanceOf(CancellationException.class);
+            assertThat(executor.queued()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
@@ -145,6 +145,7 @@
 import io.quarkus.websockets.next.runtime.Codecs;
 import io.quarkus.websockets.next.runtime.ConnectionManager;
 import io.quarkus.websockets.next.runtime.ContextSupport;
+import io.quarkus.websockets.next.runtime.EventBusBroadcastBackplane;
 import io.quarkus.websockets.next.runtime.HttpUpgradeSecurityInterceptor;
 import io.quarkus.websockets.next.runtime.JsonTextMessageCodec;
 import io.quarkus.websockets.next.runtime.SecurityHttpUpgradeCheck;
@@ -248,7 +249,8 @@ void additionalBeans(CombinedIndexBuildItem combinedIndex, BuildProducer<Additio
                 .setUnremovable()
                 .addBeanClasses(Codecs.class, ClientConnectionManager.class, BasicWebSocketConnectorImpl.class);
         if (!index.getAnnotations(WebSocketDotNames.WEB_SOCKET).isEmpty()) {
-            unremovable.addBeanClasses(ConnectionManager.class, WebSocketHttpServerOptionsCustomizer.class);
+            unremovable.addBeanClasses(ConnectionManager.class, WebSocketHttpServerOptionsCustomizer.class,
+                    EventBusBroadcastBackplane.class);
         }
         additionalBeans.produce(unremovable.build());
     }
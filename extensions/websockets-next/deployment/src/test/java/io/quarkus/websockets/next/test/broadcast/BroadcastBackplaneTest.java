@@ -0,0 +1,108 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.http.WebSocketClient;
+import io.vertx.core.json.JsonObject;
+
+public class BroadcastBackplaneTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Feed.class);
+            })
+            .overrideConfigKey("quarkus.websockets-next.server.backplane.enabled", "true")
+            .overrideConfigKey("quarkus.websockets-next.server.backplane.address", "feed-backplane");
+
+    @TestHTTPResource("feed")
+    URI feedUri;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testBroadcastRelayed() throws Exception {
+        WebSocketClient client = vertx.createWebSocketClient();
+        LinkedBlockingQueue<JsonObject> published = new LinkedBlockingQueue<>();
+        MessageConsumer<JsonObject> consumer = vertx.eventBus().consumer("feed-backplane", m -> published.add(m.body()));
+        try {
+            LinkedBlockingQueue<String> messages = new LinkedBlockingQueue<>();
+            List<io.vertx.core.http.WebSocket> socket = new CopyOnWriteArrayList<>();
+            CountDownLatch connectedLatch = new CountDownLatch(1);
+            client.connect(feedUri.getPort(), feedUri.getHost(), feedUri.getPath()).onComplete(r -> {
+                if (r.succeeded()) {
+                    r.result().textMessageHandler(messages::add);
+                    socket.add(r.result());
+                    connectedLatch.countDown();
+                } else {
+                    throw new IllegalStateException(r.cause());
+                }
+            });
+            assertTrue(connectedLatch.await(5, TimeUnit.SECONDS));
+
+            // Local broadcast is delivered once and published to the backplane
+            socket.get(0).writeTextMessage("local");
+            assertEquals("local", messages.poll(5, TimeUnit.SECONDS));
+            JsonObject json = published.poll(5, TimeUnit.SECONDS);
+            assertEquals("local", json.getString("text"));
+            assertEquals(Feed.class.getName(), json.getString("endpoint"));
+            assertTrue(messages.isEmpty());
+
+            // Simulate a broadcast from another node
+            vertx.eventBus().publish("feed-backplane", new JsonObject()
+                    .put("node", "other")
+                    .put("endpoint", Feed.class.getName())
+                    .put("text", "remote"));
+            assertEquals("remote", messages.poll(5, TimeUnit.SECONDS));
+
+            // Messages for other endpoints are ignored
+            vertx.eventBus().publish("feed-backplane", new JsonObject()
+                    .put("node", "other")
+                    .put("endpoint", "unknown")
+                    .put("text", "ignored"));
+            vertx.eventBus().publish("feed-backplane", new JsonObject()
+                    .put("node", "other")
+                    .put("endpoint", Feed.class.getName())
+                    .put("text", "last"));
+            assertEquals("last", messages.poll(5, TimeUnit.SECONDS));
+        } finally {
+            consumer.unregister().toCompletionStage().toCompletableFuture().get();
+            client.close().toCompletionStage().toCompletableFuture().get();
+        }
+    }
+
+    @WebSocket(path = "/feed")
+    public static class Feed {
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnTextMessage
+        void onMessage(String message) {
+            connection.broadcast().sendTextAndAwait(message);
+        }
+
+    }
+
+}
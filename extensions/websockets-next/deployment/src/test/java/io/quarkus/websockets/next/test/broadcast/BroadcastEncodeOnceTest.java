@@ -0,0 +1,122 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.TextMessageCodec;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.WebSocketClient;
+
+public class BroadcastEncodeOnceTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Hub.class, Greeting.class, CountingGreetingCodec.class);
+            });
+
+    @TestHTTPResource("hub")
+    URI hubUri;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testMessageEncodedOnce() throws Exception {
+        List<WebSocketClient> clients = new CopyOnWriteArrayList<>();
+        List<io.vertx.core.http.WebSocket> sockets = new CopyOnWriteArrayList<>();
+        List<String> messages = new CopyOnWriteArrayList<>();
+        CountDownLatch messageLatch = new CountDownLatch(3);
+        try {
+            for (int i = 0; i < 3; i++) {
+                WebSocketClient client = vertx.createWebSocketClient();
+                clients.add(client);
+                CountDownLatch connectedLatch = new CountDownLatch(1);
+                client.connect(hubUri.getPort(), hubUri.getHost(), hubUri.getPath()).onComplete(r -> {
+                    if (r.succeeded()) {
+                        r.result().textMessageHandler(msg -> {
+                            messages.add(msg);
+                            messageLatch.countDown();
+                        });
+                        sockets.add(r.result());
+                        connectedLatch.countDown();
+                    } else {
+                        throw new IllegalStateException(r.cause());
+                    }
+                });
+                assertTrue(connectedLatch.await(5, TimeUnit.SECONDS));
+            }
+            sockets.get(0).writeTextMessage("hello");
+            assertTrue(messageLatch.await(5, TimeUnit.SECONDS));
+            assertEquals(3, messages.size());
+            for (String message : messages) {
+                assertEquals("greeting:hello", message);
+            }
+            // The message is encoded once, not once per connection
+            assertEquals(1, CountingGreetingCodec.ENCODED.get());
+        } finally {
+            for (WebSocketClient client : clients) {
+                client.close().toCompletionStage().toCompletableFuture().get();
+            }
+        }
+    }
+
+    @WebSocket(path = "/hub")
+    public static class Hub {
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnTextMessage
+        void onMessage(String message) {
+            connection.broadcast().sendTextAndAwait(new Greeting(message));
+        }
+
+    }
+
+    public record Greeting(String text) {
+    }
+
+    @Singleton
+    public static class CountingGreetingCodec implements TextMessageCodec<Greeting> {
+
+        static final AtomicInteger ENCODED = new AtomicInteger();
+
+        @Override
+        public boolean supports(Type type) {
+            return type.equals(Greeting.class);
+        }
+
+        @Override
+        public String encode(Greeting value) {
+            ENCODED.incrementAndGet();
+            return "greeting:" + value.text();
+        }
+
+        @Override
+        public Greeting decode(Type type, String value) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+}
@@ -0,0 +1,139 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.OpenConnections;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.WebSocketClient;
+
+public class BroadcastToTopicTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Rooms.class);
+            });
+
+    @TestHTTPResource("rooms")
+    URI roomsUri;
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    OpenConnections connections;
+
+    @Test
+    public void testBroadcastToTopic() throws Exception {
+        List<WebSocketClient> clients = new CopyOnWriteArrayList<>();
+        try {
+            LinkedBlockingQueue<String> red1 = new LinkedBlockingQueue<>();
+            LinkedBlockingQueue<String> red2 = new LinkedBlockingQueue<>();
+            LinkedBlockingQueue<String> blue = new LinkedBlockingQueue<>();
+            io.vertx.core.http.WebSocket red1Socket = connect(clients, red1);
+            io.vertx.core.http.WebSocket red2Socket = connect(clients, red2);
+            io.vertx.core.http.WebSocket blueSocket = connect(clients, blue);
+
+            red1Socket.writeTextMessage("join:red");
+            assertEquals("joined:red", red1.poll(5, TimeUnit.SECONDS));
+            red2Socket.writeTextMessage("join:red");
+            assertEquals("joined:red", red2.poll(5, TimeUnit.SECONDS));
+            blueSocket.writeTextMessage("join:blue");
+            assertEquals("joined:blue", blue.poll(5, TimeUnit.SECONDS));
+            assertEquals(2, connections.findByTopic("red").size());
+            assertEquals(1, connections.findByTopic("blue").size());
+
+            red1Socket.writeTextMessage("red:hello");
+            assertEquals("hello", red1.poll(5, TimeUnit.SECONDS));
+            assertEquals("hello", red2.poll(5, TimeUnit.SECONDS));
+
+            blueSocket.writeTextMessage("blue:hi");
+            assertEquals("hi", blue.poll(5, TimeUnit.SECONDS));
+            // The red connections did not receive the message sent to the blue topic
+            assertTrue(red1.isEmpty());
+            assertTrue(red2.isEmpty());
+
+            red2Socket.writeTextMessage("leave:red");
+            assertEquals("left:red", red2.poll(5, TimeUnit.SECONDS));
+            red1Socket.writeTextMessage("red:bye");
+            assertEquals("bye", red1.poll(5, TimeUnit.SECONDS));
+            assertEquals(1, connections.findByTopic("red").size());
+
+            // Closed connections are unsubscribed automatically
+            red1Socket.close().toCompletionStage().toCompletableFuture().get();
+            Awaitility.await().until(() -> connections.findByTopic("red").isEmpty());
+            assertTrue(red2.isEmpty());
+        } finally {
+            for (WebSocketClient client : clients) {
+                client.close().toCompletionStage().toCompletableFuture().get();
+            }
+        }
+    }
+
+    private io.vertx.core.http.WebSocket connect(List<WebSocketClient> clients, LinkedBlockingQueue<String> messages)
+            throws Exception {
+        WebSocketClient client = vertx.createWebSocketClient();
+        clients.add(client);
+        List<io.vertx.core.http.WebSocket> socket = new CopyOnWriteArrayList<>();
+        CountDownLatch connectedLatch = new CountDownLatch(1);
+        client.connect(roomsUri.getPort(), roomsUri.getHost(), roomsUri.getPath()).onComplete(r -> {
+            if (r.succeeded()) {
+                r.result().textMessageHandler(messages::add);
+                socket.add(r.result());
+                connectedLatch.countDown();
+            } else {
+                throw new IllegalStateException(r.cause());
+            }
+        });
+        assertTrue(connectedLatch.await(5, TimeUnit.SECONDS));
+        return socket.get(0);
+    }
+
+    @WebSocket(path = "/rooms")
+    public static class Rooms {
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnTextMessage
+        String onMessage(String message) {
+            int idx = message.indexOf(':');
+            String command = message.substring(0, idx);
+            String value = message.substring(idx + 1);
+            switch (command) {
+                case "join":
+                    connection.subscribe(value);
+                    assertEquals(Set.of(value), connection.subscriptions());
+                    return "joined:" + value;
+                case "leave":
+                    connection.unsubscribe(value);
+                    return "left:" + value;
+                default:
+                    connection.broadcast().toTopic(command).sendTextAndAwait(value);
+                    return null;
+            }
+        }
+
+    }
+
+}
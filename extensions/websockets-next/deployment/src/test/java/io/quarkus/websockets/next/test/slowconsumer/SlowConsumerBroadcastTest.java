@@ -0,0 +1,99 @@
+package io.quarkus.websockets.next.test.slowconsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.netty.handler.codec.http.websocketx.WebSocketCloseStatus;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.WebSocketClient;
+
+public class SlowConsumerBroadcastTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Feed.class);
+            })
+            .overrideConfigKey("quarkus.websockets-next.server.slow-consumer.write-queue-max-size", "1024")
+            .overrideConfigKey("quarkus.websockets-next.server.slow-consumer.policy", "close");
+
+    @TestHTTPResource("feed")
+    URI feedUri;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testSlowConsumerDoesNotFailBroadcast() throws Exception {
+        WebSocketClient client = vertx.createWebSocketClient();
+        try {
+            CompletableFuture<Short> slowClosed = new CompletableFuture<>();
+            io.vertx.core.http.WebSocket slow = connect(client, slowClosed);
+            // Stop reading so that the pending writes accumulate on the server
+            slow.pause();
+            io.vertx.core.http.WebSocket fast = connect(client, new CompletableFuture<>());
+            fast.writeTextMessage("flood");
+
+            assertTrue(Feed.DONE.await(20, TimeUnit.SECONDS));
+            assertEquals(0, Feed.FAILURES.get());
+            slow.resume();
+            assertEquals(WebSocketCloseStatus.POLICY_VIOLATION.code(), slowClosed.get(10, TimeUnit.SECONDS));
+        } finally {
+            client.close().toCompletionStage().toCompletableFuture().get();
+        }
+    }
+
+    private io.vertx.core.http.WebSocket connect(WebSocketClient client, CompletableFuture<Short> closed)
+            throws Exception {
+        CompletableFuture<io.vertx.core.http.WebSocket> connected = new CompletableFuture<>();
+        client.connect(feedUri.getPort(), feedUri.getHost(), feedUri.getPath()).onComplete(r -> {
+            if (r.succeeded()) {
+                r.result().closeHandler(v -> closed.complete(r.result().closeStatusCode()));
+                connected.complete(r.result());
+            } else {
+                connected.completeExceptionally(r.cause());
+            }
+        });
+        return connected.get(5, TimeUnit.SECONDS);
+    }
+
+    @WebSocket(path = "/feed")
+    public static class Feed {
+
+        static final int MESSAGES = 10_000;
+        static final CountDownLatch DONE = new CountDownLatch(MESSAGES);
+        static final AtomicInteger FAILURES = new AtomicInteger();
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnTextMessage
+        void onMessage(String message) {
+            String payload = "x".repeat(10_000);
+            for (int i = 0; i < MESSAGES; i++) {
+                connection.broadcast().sendText(payload).subscribe().with(v -> DONE.countDown(), t -> {
+                    FAILURES.incrementAndGet();
+                    DONE.countDown();
+                });
+            }
+        }
+
+    }
+
+}
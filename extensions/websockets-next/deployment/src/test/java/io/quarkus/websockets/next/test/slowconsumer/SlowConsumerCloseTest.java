@@ -0,0 +1,87 @@
+package io.quarkus.websockets.next.test.slowconsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.netty.handler.codec.http.websocketx.WebSocketCloseStatus;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.WebSocketClient;
+
+public class SlowConsumerCloseTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Feed.class);
+            })
+            .overrideConfigKey("quarkus.websockets-next.server.slow-consumer.write-queue-max-size", "1024")
+            .overrideConfigKey("quarkus.websockets-next.server.slow-consumer.policy", "close");
+
+    @TestHTTPResource("feed")
+    URI feedUri;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testSlowConsumerClosed() throws Exception {
+        WebSocketClient client = vertx.createWebSocketClient();
+        try {
+            CompletableFuture<io.vertx.core.http.WebSocket> connected = new CompletableFuture<>();
+            CompletableFuture<Short> closed = new CompletableFuture<>();
+            client.connect(feedUri.getPort(), feedUri.getHost(), feedUri.getPath()).onComplete(r -> {
+                if (r.succeeded()) {
+                    r.result().closeHandler(v -> closed.complete(r.result().closeStatusCode()));
+                    connected.complete(r.result());
+                } else {
+                    connected.completeExceptionally(r.cause());
+                }
+            });
+            io.vertx.core.http.WebSocket ws = connected.get(5, TimeUnit.SECONDS);
+            ws.writeTextMessage("flood");
+            // Stop reading so that the pending writes accumulate on the server
+            ws.pause();
+            assertTrue(Feed.CLOSED.await(10, TimeUnit.SECONDS));
+            ws.resume();
+            assertEquals(WebSocketCloseStatus.POLICY_VIOLATION.code(), closed.get(10, TimeUnit.SECONDS));
+        } finally {
+            client.close().toCompletionStage().toCompletableFuture().get();
+        }
+    }
+
+    @WebSocket(path = "/feed")
+    public static class Feed {
+
+        static final CountDownLatch CLOSED = new CountDownLatch(1);
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnTextMessage
+        void onMessage(String message) {
+            String payload = "x".repeat(10_000);
+            // Do not wait for the writes to complete - the client does not read the messages
+            for (int i = 0; i < 10_000 && !connection.isClosed(); i++) {
+                connection.sendText(payload).subscribe().with(v -> {
+                }, t -> CLOSED.countDown());
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,54 @@
+package io.quarkus.websockets.next;
+
+import java.util.function.Consumer;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Relays the messages sent via {@link WebSocketConnection.BroadcastSender} to the other nodes of a cluster, so that the
+ * messages reach the connections opened on all nodes and not only the connections opened on the local node.
+ * <p>
+ * The backplane is only used if {@code quarkus.websockets-next.server.backplane.enabled} is set to {@code true}. Quarkus
+ * provides a default implementation based on the Vert.x event bus; a clustered Vert.x instance is needed to reach other
+ * nodes. An application can provide a CDI bean implementing this interface to replace the default implementation, e.g.
+ * to relay the messages through an external pub/sub system.
+ * <p>
+ * Only unfiltered broadcasts are relayed, i.e. the messages sent via a sender obtained from
+ * {@link WebSocketConnection.BroadcastSender#filter(java.util.function.Predicate)} are only delivered to the local
+ * connections.
+ */
+public interface BroadcastBackplane {
+
+    /**
+     * Publishes the message to all other nodes. This method is called once for each broadcast on the local node.
+     *
+     * @param message
+     * @return a new {@link Uni} completed when the message is published
+     */
+    Uni<Void> publish(Message message);
+
+    /**
+     * Registers the consumer of the messages published by all nodes, including the local node. This method is called once
+     * during application startup.
+     *
+     * @param consumer
+     */
+    void subscribe(Consumer<Message> consumer);
+
+    /**
+     * A broadcast message.
+     *
+     * @param nodeId the identifier of the node the message was sent from
+     * @param endpointId the endpoint id
+     * @param topic the topic or {@code null} if the message is sent to all connections of the endpoint
+     * @param text the text message or {@code null} if it's a binary message
+     * @param binary the binary message or {@code null} if it's a text message
+     * @see WebSocket#endpointId()
+     * @see WebSocketConnection.BroadcastSender#toTopic(String)
+     */
+    record Message(String nodeId, String endpointId, String topic, String text, Buffer binary) {
+
+    }
+
+}
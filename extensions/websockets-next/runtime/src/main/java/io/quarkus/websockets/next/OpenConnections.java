@@ -44,6 +44,17 @@ default Optional<WebSocketConnection> findByConnectionId(String connectionId) {
         return stream().filter(c -> c.id().equals(connectionId)).findFirst();
     }
 
+    /**
+     * Returns an immutable snapshot of all open connections subscribed to the given topic.
+     *
+     * @param topic
+     * @return an immutable collection of all open connections subscribed to the given topic
+     * @see WebSocketConnection#subscribe(String)
+     */
+    default Collection<WebSocketConnection> findByTopic(String topic) {
+        return stream().filter(c -> c.subscriptions().contains(topic)).toList();
+    }
+
     /**
      * Returns the stream of all open connections at the given time.
      *
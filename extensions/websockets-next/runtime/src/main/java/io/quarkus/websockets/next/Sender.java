@@ -11,6 +11,9 @@ public interface Sender {
 
     /**
      * Send a text message.
+     * <p>
+     * If the {@code drop} slow consumer policy is configured and the write queue of the connection is full, the message is
+     * dropped and the returned {@link Uni} completes successfully.
      *
      * @param message
      * @return a new {@link Uni} with a {@code null} item
@@ -33,6 +36,9 @@ default void sendTextAndAwait(String message) {
      * Send a text message.
      * <p>
      * A {@link TextMessageCodec} is used to encode the message.
+     * <p>
+     * If the {@code drop} slow consumer policy is configured and the write queue of the connection is full, the message is
+     * dropped and the returned {@link Uni} completes successfully.
      *
      * @param <M>
      * @param message
@@ -59,6 +65,9 @@ default <M> void sendTextAndAwait(M message) {
 
     /**
      * Send a binary message.
+     * <p>
+     * If the {@code drop} slow consumer policy is configured and the write queue of the connection is full, the message is
+     * dropped and the returned {@link Uni} completes successfully.
      *
      * @param message
      * @return a new {@link Uni} with a {@code null} item
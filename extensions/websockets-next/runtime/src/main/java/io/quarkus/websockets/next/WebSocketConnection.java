@@ -36,6 +36,31 @@ public interface WebSocketConnection extends Connection {
      */
     Set<WebSocketConnection> getOpenConnections();
 
+    /**
+     * Subscribes this connection to the given topic.
+     * <p>
+     * A connection is automatically unsubscribed from all topics when closed.
+     *
+     * @param topic
+     * @return {@code true} if the connection was not subscribed to the given topic yet
+     * @see BroadcastSender#toTopic(String)
+     */
+    boolean subscribe(String topic);
+
+    /**
+     * Unsubscribes this connection from the given topic.
+     *
+     * @param topic
+     * @return {@code true} if the connection was subscribed to the given topic
+     */
+    boolean unsubscribe(String topic);
+
+    /**
+     *
+     * @return an immutable snapshot of topics this connection is subscribed to
+     */
+    Set<String> subscriptions();
+
     /**
      * Makes it possible to send messages to all clients connected to the same WebSocket endpoint.
      *
@@ -51,6 +76,18 @@ interface BroadcastSender extends Sender {
          */
         BroadcastSender filter(Predicate<WebSocketConnection> predicate);
 
+        /**
+         * Only the connections subscribed to the given topic are considered. Unlike {@link #filter(Predicate)}, the
+         * connections are looked up in an index and the sender does not need to iterate over all connections of the
+         * endpoint.
+         *
+         * @param topic
+         * @return a new sender that sends messages to all open clients connected to the same WebSocket endpoint and
+         *         subscribed to the given topic
+         * @see WebSocketConnection#subscribe(String)
+         */
+        BroadcastSender toTopic(String topic);
+
     }
 
 }
@@ -1,25 +1,33 @@
 package io.quarkus.websockets.next.runtime;
 
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Stream;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Singleton;
 
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
+import io.quarkus.websockets.next.BroadcastBackplane;
 import io.quarkus.websockets.next.Closed;
 import io.quarkus.websockets.next.Open;
 import io.quarkus.websockets.next.OpenConnections;
 import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.runtime.config.WebSocketsServerRuntimeConfig;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.Buffer;
 
 @Singleton
 public class ConnectionManager implements OpenConnections {
@@ -29,18 +37,38 @@ public class ConnectionManager implements OpenConnections {
     // generatedEndpointClassName -> open connections
     private final ConcurrentMap<String, Set<WebSocketConnection>> endpointToConnections = new ConcurrentHashMap<>();
 
+    // topic -> connections subscribed to the topic
+    private final ConcurrentMap<String, Set<WebSocketConnection>> topicToConnections = new ConcurrentHashMap<>();
+
+    // endpointId -> generatedEndpointClassName
+    private final ConcurrentMap<String, String> endpointIdToEndpoint = new ConcurrentHashMap<>();
+
     private final List<ConnectionListener> listeners = new CopyOnWriteArrayList<>();
 
     private final Event<WebSocketConnection> openEvent;
     private final Event<WebSocketConnection> closedEvent;
 
-    ConnectionManager(@Open Event<WebSocketConnection> openEvent, @Closed Event<WebSocketConnection> closedEvent) {
+    // null if the backplane is disabled
+    private final BroadcastBackplane backplane;
+    private final String nodeId;
+
+    ConnectionManager(@Open Event<WebSocketConnection> openEvent, @Closed Event<WebSocketConnection> closedEvent,
+            WebSocketsServerRuntimeConfig config, Instance<BroadcastBackplane> backplane) {
         ArcContainer container = Arc.container();
         this.openEvent = container.resolveObserverMethods(WebSocketConnection.class, Open.Literal.INSTANCE).isEmpty()
                 ? null
                 : openEvent;
         this.closedEvent = container.resolveObserverMethods(WebSocketConnection.class, Closed.Literal.INSTANCE)
                 .isEmpty() ? null : closedEvent;
+        this.backplane = config.backplane().enabled() ? backplane.get() : null;
+        this.nodeId = UUID.randomUUID().toString();
+    }
+
+    @PostConstruct
+    void init() {
+        if (backplane != null) {
+            backplane.subscribe(this::onBroadcast);
+        }
     }
 
     @Override
@@ -53,8 +81,14 @@ public Stream<WebSocketConnection> stream() {
         return endpointToConnections.values().stream().flatMap(Set::stream).filter(WebSocketConnection::isOpen);
     }
 
+    @Override
+    public Collection<WebSocketConnection> findByTopic(String topic) {
+        return getConnectionsByTopic(topic).stream().filter(WebSocketConnection::isOpen).toList();
+    }
+
     void add(String endpoint, WebSocketConnection connection) {
         LOG.debugf("Add connection: %s", connection);
+        endpointIdToEndpoint.putIfAbsent(connection.endpointId(), endpoint);
         if (endpointToConnections.computeIfAbsent(endpoint, e -> ConcurrentHashMap.newKeySet()).add(connection)) {
             if (openEvent != null) {
                 openEvent.fireAsync(connection);
@@ -77,6 +111,9 @@ void remove(String endpoint, WebSocketConnection connection) {
         Set<WebSocketConnection> connections = endpointToConnections.get(endpoint);
         if (connections != null) {
             if (connections.remove(connection)) {
+                for (String topic : connection.subscriptions()) {
+                    unsubscribe(topic, connection);
+                }
                 if (closedEvent != null) {
                     closedEvent.fireAsync(connection);
                 }
@@ -107,6 +144,79 @@ public Set<WebSocketConnection> getConnections(String endpoint) {
         return ret;
     }
 
+    /**
+     *
+     * @param topic
+     * @return the connections subscribed to the given topic, never {@code null}
+     */
+    public Set<WebSocketConnection> getConnectionsByTopic(String topic) {
+        Set<WebSocketConnection> ret = topicToConnections.get(topic);
+        if (ret == null) {
+            return Set.of();
+        }
+        return ret;
+    }
+
+    void subscribe(String topic, WebSocketConnection connection) {
+        // compute() is atomic; an empty set cannot be removed concurrently by unsubscribe()
+        topicToConnections.compute(topic, (t, connections) -> {
+            if (connections == null) {
+                connections = ConcurrentHashMap.newKeySet();
+            }
+            connections.add(connection);
+            return connections;
+        });
+    }
+
+    void unsubscribe(String topic, WebSocketConnection connection) {
+        // Remove the topic entry once the last connection is unsubscribed
+        topicToConnections.computeIfPresent(topic, (t, connections) -> {
+            connections.remove(connection);
+            return connections.isEmpty() ? null : connections;
+        });
+    }
+
+    /**
+     * Relays the broadcast message to other nodes. The message is relayed when the returned {@link Uni} is subscribed, like
+     * the message is sent to the local connections.
+     *
+     * @param endpointId
+     * @param topic
+     * @param message
+     * @return the result of the publish operation, or {@code null} if the backplane is disabled
+     */
+    Uni<Void> publish(String endpointId, String topic, Object message) {
+        if (backplane == null) {
+            return null;
+        }
+        return Uni.createFrom().deferred(() -> backplane.publish(message instanceof Buffer buffer
+                ? new BroadcastBackplane.Message(nodeId, endpointId, topic, null, buffer)
+                : new BroadcastBackplane.Message(nodeId, endpointId, topic, message.toString(), null)));
+    }
+
+    private void onBroadcast(BroadcastBackplane.Message message) {
+        if (nodeId.equals(message.nodeId())) {
+            // The message was already delivered to the local connections
+            return;
+        }
+        Set<WebSocketConnection> connections;
+        if (message.topic() != null) {
+            connections = getConnectionsByTopic(message.topic());
+        } else {
+            String endpoint = endpointIdToEndpoint.get(message.endpointId());
+            connections = endpoint != null ? getConnections(endpoint) : Set.of();
+        }
+        for (WebSocketConnection connection : connections) {
+            if (connection.isOpen() && connection.endpointId().equals(message.endpointId())) {
+                Uni<Void> send = message.text() != null ? connection.sendText(message.text())
+                        : connection.sendBinary(message.binary());
+                send.subscribe().with(ignored -> {
+                }, t -> LOG.debugf("Unable to deliver a broadcast message from node %s to %s: %s", message.nodeId(),
+                        connection, t.toString()));
+            }
+        }
+    }
+
     public void addListener(ConnectionListener listener) {
         this.listeners.add(listener);
     }
@@ -114,6 +224,8 @@ public void addListener(ConnectionListener listener) {
     @PreDestroy
     void destroy() {
         endpointToConnections.clear();
+        topicToConnections.clear();
+        endpointIdToEndpoint.clear();
     }
 
     public interface ConnectionListener {
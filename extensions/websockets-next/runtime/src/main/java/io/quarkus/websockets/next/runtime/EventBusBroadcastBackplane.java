@@ -0,0 +1,72 @@
+package io.quarkus.websockets.next.runtime;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+
+import io.quarkus.arc.DefaultBean;
+import io.quarkus.websockets.next.BroadcastBackplane;
+import io.quarkus.websockets.next.runtime.config.WebSocketsServerRuntimeConfig;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * The default backplane publishes the broadcast messages to the Vert.x event bus. The messages reach other nodes only if
+ * the Vert.x instance is clustered.
+ */
+@DefaultBean
+@Singleton
+public class EventBusBroadcastBackplane implements BroadcastBackplane {
+
+    private final Vertx vertx;
+
+    private final String address;
+
+    private final List<MessageConsumer<JsonObject>> consumers = new CopyOnWriteArrayList<>();
+
+    EventBusBroadcastBackplane(Vertx vertx, WebSocketsServerRuntimeConfig config) {
+        this.vertx = vertx;
+        this.address = config.backplane().address();
+    }
+
+    @Override
+    public Uni<Void> publish(Message message) {
+        JsonObject json = new JsonObject()
+                .put("node", message.nodeId())
+                .put("endpoint", message.endpointId());
+        if (message.topic() != null) {
+            json.put("topic", message.topic());
+        }
+        if (message.text() != null) {
+            json.put("text", message.text());
+        } else {
+            json.put("binary", message.binary());
+        }
+        vertx.eventBus().publish(address, json);
+        return Uni.createFrom().voidItem();
+    }
+
+    @Override
+    public void subscribe(Consumer<Message> consumer) {
+        consumers.add(vertx.eventBus().<JsonObject> consumer(address, m -> {
+            JsonObject json = m.body();
+            consumer.accept(new Message(json.getString("node"), json.getString("endpoint"), json.getString("topic"),
+                    json.getString("text"), json.getBuffer("binary")));
+        }));
+    }
+
+    @PreDestroy
+    void unsubscribe() {
+        // the Vert.x instance outlives the application in dev mode
+        for (MessageConsumer<JsonObject> consumer : consumers) {
+            consumer.unregister();
+        }
+        consumers.clear();
+    }
+
+}
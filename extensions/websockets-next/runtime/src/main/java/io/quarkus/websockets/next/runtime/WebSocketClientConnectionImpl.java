@@ -10,6 +10,7 @@
 
 import io.quarkus.websockets.next.HandshakeRequest;
 import io.quarkus.websockets.next.WebSocketClientConnection;
+import io.quarkus.websockets.next.runtime.config.SlowConsumerPolicy;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
 import io.vertx.core.http.WebSocket;
 import io.vertx.core.http.WebSocketBase;
@@ -28,7 +29,7 @@ class WebSocketClientConnectionImpl extends WebSocketConnectionBase implements W
             Consumer<WebSocketClientConnection> cleanup) {
         super(Map.copyOf(pathParams), codecs,
                 new ClientHandshakeRequestImpl(serverEndpointUri, Objects.requireNonNull(webSocket), headers), trafficLogger,
-                new UserDataImpl(userData), sendingInterceptor);
+                new UserDataImpl(userData), sendingInterceptor, SlowConsumerPolicy.NONE);
         this.clientId = clientId;
         this.webSocket = webSocket;
         this.cleanup = cleanup;
@@ -3,6 +3,9 @@
 import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 
 import javax.net.ssl.SSLSession;
 
@@ -15,8 +18,11 @@
 import io.quarkus.websockets.next.HandshakeRequest;
 import io.quarkus.websockets.next.UserData;
 import io.quarkus.websockets.next.WebSocketConnection.BroadcastSender;
+import io.quarkus.websockets.next.WebSocketException;
+import io.quarkus.websockets.next.runtime.config.SlowConsumerPolicy;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.buffer.impl.BufferImpl;
 import io.vertx.core.http.WebSocketBase;
@@ -44,8 +50,11 @@ public abstract class WebSocketConnectionBase implements Connection {
 
     private final SendingInterceptor sendingInterceptor;
 
+    private final SlowConsumerPolicy slowConsumerPolicy;
+
     WebSocketConnectionBase(Map<String, String> pathParams, Codecs codecs, HandshakeRequest handshakeRequest,
-            TrafficLogger trafficLogger, UserData userData, SendingInterceptor sendingInterceptor) {
+            TrafficLogger trafficLogger, UserData userData, SendingInterceptor sendingInterceptor,
+            SlowConsumerPolicy slowConsumerPolicy) {
         this.identifier = UUID.randomUUID().toString();
         this.pathParams = pathParams;
         this.codecs = codecs;
@@ -54,6 +63,7 @@ public abstract class WebSocketConnectionBase implements Connection {
         this.trafficLogger = trafficLogger;
         this.userData = userData;
         this.sendingInterceptor = sendingInterceptor;
+        this.slowConsumerPolicy = slowConsumerPolicy;
     }
 
     abstract WebSocketBase webSocket();
@@ -70,37 +80,92 @@ public String pathParam(String name) {
 
     @Override
     public Uni<Void> sendText(String message) {
-        Uni<Void> uni = Uni.createFrom().completionStage(() -> webSocket().writeTextMessage(message).toCompletionStage());
+        Uni<Boolean> uni = Uni.createFrom().completionStage(() -> write(ws -> ws.writeTextMessage(message)));
         if (sendingInterceptor != null) {
-            uni = uni.invoke(() -> sendingInterceptor.onSend(message));
+            uni = uni.invoke(written -> {
+                if (written) {
+                    sendingInterceptor.onSend(message);
+                }
+            });
         }
-        return trafficLogger == null ? uni : uni.invoke(() -> {
-            trafficLogger.textMessageSent(this, message);
-        });
+        if (trafficLogger != null) {
+            uni = uni.invoke(written -> {
+                if (written) {
+                    trafficLogger.textMessageSent(this, message);
+                }
+            });
+        }
+        return uni.replaceWithVoid();
     }
 
     @Override
     public Uni<Void> sendBinary(Buffer message) {
-        Uni<Void> uni = Uni.createFrom().completionStage(() -> webSocket().writeBinaryMessage(message).toCompletionStage());
+        Uni<Boolean> uni = Uni.createFrom().completionStage(() -> write(ws -> ws.writeBinaryMessage(message)));
         if (sendingInterceptor != null) {
-            uni = uni.invoke(() -> sendingInterceptor.onSend(message));
+            uni = uni.invoke(written -> {
+                if (written) {
+                    sendingInterceptor.onSend(message);
+                }
+            });
+        }
+        if (trafficLogger != null) {
+            uni = uni.invoke(written -> {
+                if (written) {
+                    trafficLogger.binaryMessageSent(this, message);
+                }
+            });
+        }
+        return uni.replaceWithVoid();
+    }
+
+    /**
+     * @return a completion stage completed with {@code false} if the message was dropped because of the slow consumer
+     *         policy, or failed with a {@link SlowConsumerException} if the connection was closed because of it
+     */
+    private CompletionStage<Boolean> write(Function<WebSocketBase, Future<Void>> writer) {
+        WebSocketBase ws = webSocket();
+        if (slowConsumerPolicy != SlowConsumerPolicy.NONE && !ws.isClosed() && ws.writeQueueFull()) {
+            // The client does not consume the messages fast enough
+            if (slowConsumerPolicy == SlowConsumerPolicy.CLOSE) {
+                LOG.debugf("Write queue full - closing the slow consumer connection: %s", this);
+                ws.close((short) WebSocketCloseStatus.POLICY_VIOLATION.code(), "Slow consumer");
+                return CompletableFuture
+                        .failedFuture(new SlowConsumerException("Write queue full - connection closed: " + this));
+            }
+            LOG.debugf("Write queue full - message dropped: %s", this);
+            return CompletableFuture.completedFuture(false);
+        }
+        return writer.apply(ws).map(Boolean.TRUE).toCompletionStage();
+    }
+
+    /**
+     * The connection was closed because the client does not consume the messages fast enough.
+     */
+    static final class SlowConsumerException extends WebSocketException {
+
+        private static final long serialVersionUID = -3261587404573725113L;
+
+        SlowConsumerException(String message) {
+            super(message);
         }
-        return trafficLogger == null ? uni : uni.invoke(() -> trafficLogger.binaryMessageSent(this, message));
     }
 
     @Override
     public <M> Uni<Void> sendText(M message) {
-        String text;
+        // Encode the message on subscription so that a codec failure fails the returned Uni
+        return Uni.createFrom().item(() -> encodeText(message)).chain(text -> sendText(text));
+    }
+
+    <M> String encodeText(M message) {
         // Use the same conversion rules as defined for the OnTextMessage
         if (message instanceof JsonObject || message instanceof JsonArray || message instanceof BufferImpl
                 || message instanceof NoBoundChecksBuffer) {
-            text = message.toString();
+            return message.toString();
         } else if (message.getClass().isArray() && message.getClass().arrayType().equals(byte.class)) {
-            text = Buffer.buffer((byte[]) message).toString();
+            return Buffer.buffer((byte[]) message).toString();
         } else {
-            text = codecs.textEncode(message, null);
+            return codecs.textEncode(message, null);
         }
-        return sendText(text);
     }
 
     @Override
@@ -7,6 +7,7 @@
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -15,6 +16,7 @@
 import io.quarkus.websockets.next.HandshakeRequest;
 import io.quarkus.websockets.next.UserData;
 import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.runtime.config.SlowConsumerPolicy;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.buffer.Buffer;
@@ -36,18 +38,22 @@ class WebSocketConnectionImpl extends WebSocketConnectionBase implements WebSock
 
     private final SecuritySupport securitySupport;
 
+    private final Set<String> subscriptions;
+
     WebSocketConnectionImpl(String generatedEndpointClass, String endpointClass, ServerWebSocket webSocket,
             ConnectionManager connectionManager, Codecs codecs, RoutingContext ctx,
             TrafficLogger trafficLogger, UserData userData, SendingInterceptor sendingInterceptor,
-            Function<WebSocketConnectionImpl, SecuritySupport> securitySupportCreator) {
+            Function<WebSocketConnectionImpl, SecuritySupport> securitySupportCreator, SlowConsumerPolicy slowConsumerPolicy) {
         super(Map.copyOf(ctx.pathParams()), codecs, new HandshakeRequestImpl(webSocket, ctx), trafficLogger,
-                userData, sendingInterceptor);
+                userData, sendingInterceptor, slowConsumerPolicy);
         this.generatedEndpointClass = generatedEndpointClass;
         this.endpointId = endpointClass;
         this.webSocket = Objects.requireNonNull(webSocket);
         this.connectionManager = Objects.requireNonNull(connectionManager);
-        this.defaultBroadcast = new BroadcastImpl(null);
+        this.defaultBroadcast = new BroadcastImpl(null, null);
         this.securitySupport = securitySupportCreator.apply(this);
+        // Most connections subscribe to a few topics only
+        this.subscriptions = ConcurrentHashMap.newKeySet(4);
     }
 
     SecuritySupport securitySupport() {
@@ -75,6 +81,35 @@ public Set<WebSocketConnection> getOpenConnections() {
                 .collect(Collectors.toUnmodifiableSet());
     }
 
+    @Override
+    public boolean subscribe(String topic) {
+        Objects.requireNonNull(topic);
+        if (!subscriptions.add(topic)) {
+            return false;
+        }
+        connectionManager.subscribe(topic, this);
+        if (!isOpen()) {
+            // The connection was closed in the meantime and may have been already removed from the connection manager
+            unsubscribe(topic);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean unsubscribe(String topic) {
+        Objects.requireNonNull(topic);
+        if (subscriptions.remove(topic)) {
+            connectionManager.unsubscribe(topic, this);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public Set<String> subscriptions() {
+        return Set.copyOf(subscriptions);
+    }
+
     @Override
     public String toString() {
         return "WebSocket connection [endpointId=" + endpointId + ", path=" + webSocket.path() + ", id=" + identifier + "]";
@@ -187,12 +222,6 @@ public Uni<Void> apply(WebSocketConnection c, String s) {
                 return c.sendText(s);
             }
         };
-        private static final BiFunction<WebSocketConnection, Object, Uni<Void>> SEND_TEXT_POJO = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, Object o) {
-                return c.sendText(o);
-            }
-        };
         private static final BiFunction<WebSocketConnection, Buffer, Uni<Void>> SEND_BINARY = new BiFunction<>() {
             @Override
             public Uni<Void> apply(WebSocketConnection c, Buffer b) {
@@ -200,15 +229,23 @@ public Uni<Void> apply(WebSocketConnection c, Buffer b) {
             }
         };
 
+        private final String topic;
+
         private final Predicate<WebSocketConnection> filter;
 
-        BroadcastImpl(Predicate<WebSocketConnection> filter) {
+        BroadcastImpl(String topic, Predicate<WebSocketConnection> filter) {
+            this.topic = topic;
             this.filter = filter;
         }
 
         @Override
         public BroadcastSender filter(Predicate<WebSocketConnection> predicate) {
-            return new BroadcastImpl(Objects.requireNonNull(predicate));
+            return new BroadcastImpl(topic, Objects.requireNonNull(predicate));
+        }
+
+        @Override
+        public BroadcastSender toTopic(String topic) {
+            return new BroadcastImpl(Objects.requireNonNull(topic), filter);
         }
 
         @Override
@@ -218,7 +255,8 @@ public Uni<Void> sendText(String message) {
 
         @Override
         public <M> Uni<Void> sendText(M message) {
-            return doSend(SEND_TEXT_POJO, message);
+            // Encode the message only once for all connections, on subscription
+            return Uni.createFrom().item(() -> encodeText(message)).chain(text -> doSend(SEND_TEXT_STR, text));
         }
 
         @Override
@@ -237,18 +275,28 @@ public Uni<Void> sendPong(Buffer data) {
         }
 
         private <M> Uni<Void> doSend(BiFunction<WebSocketConnection, M, Uni<Void>> sendFunction, M message) {
-            Set<WebSocketConnection> connections = connectionManager.getConnections(generatedEndpointClass);
+            Set<WebSocketConnection> connections = topic != null ? connectionManager.getConnectionsByTopic(topic)
+                    : connectionManager.getConnections(generatedEndpointClass);
+            // Filtered messages are never relayed to other nodes
+            Uni<Void> publish = filter == null ? connectionManager.publish(endpointId, topic, message) : null;
             if (connections.isEmpty()) {
-                return Uni.createFrom().voidItem();
+                return publish != null ? publish : Uni.createFrom().voidItem();
+            }
+            List<Uni<Void>> unis = new ArrayList<>(connections.size() + 1);
+            if (publish != null) {
+                unis.add(publish);
             }
-            List<Uni<Void>> unis = new ArrayList<>(connections.size());
             for (WebSocketConnection connection : connections) {
                 if (connection.isOpen()
+                        // The topic index is shared by all endpoints
+                        && (topic == null || endpointId.equals(connection.endpointId()))
                         && (filter == null || filter.test(connection))) {
                     unis.add(sendFunction.apply(connection, message)
                             // Intentionally ignore 'WebSocket is closed' failures
                             // It might happen that the connection is closed in the mean time
-                            .onFailure(t -> Endpoints.isWebSocketIsClosedFailure(t, (WebSocketConnectionBase) connection))
+                            // A slow consumer closed by the policy must not fail the broadcast either
+                            .onFailure(t -> t instanceof WebSocketConnectionBase.SlowConsumerException
+                                    || Endpoints.isWebSocketIsClosedFailure(t, (WebSocketConnectionBase) connection))
                             .recoverWithNull());
                 }
             }
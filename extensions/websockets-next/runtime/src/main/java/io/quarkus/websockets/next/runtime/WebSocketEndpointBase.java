@@ -2,6 +2,7 @@
 
 import java.lang.reflect.Type;
 import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -140,22 +141,27 @@ public void handle(Void event) {
         } : null;
 
         if (executionModel == ExecutionModel.VIRTUAL_THREAD) {
-            VirtualThreadsRecorder.getCurrent().execute(new Runnable() {
-                @Override
-                public void run() {
-                    Context context = Vertx.currentContext();
-                    contextSupport.start();
-                    action.apply(message).subscribe().with(
-                            v -> {
-                                context.runOnContext(contextSupportEnd);
-                                onComplete.run();
-                            },
-                            t -> {
-                                context.runOnContext(contextSupportEnd);
-                                onFailure.accept(t);
-                            });
-                }
-            });
+            try {
+                VirtualThreadsRecorder.getCurrent().execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        Context context = Vertx.currentContext();
+                        contextSupport.start();
+                        action.apply(message).subscribe().with(
+                                v -> {
+                                    context.runOnContext(contextSupportEnd);
+                                    onComplete.run();
+                                },
+                                t -> {
+                                    context.runOnContext(contextSupportEnd);
+                                    onFailure.accept(t);
+                                });
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // The max concurrency of virtual threads is reached and the queue is full
+                onFailure.accept(e);
+            }
         } else if (executionModel == ExecutionModel.WORKER_THREAD) {
             context.executeBlocking(new Callable<Void>() {
                 @Override
@@ -204,22 +210,26 @@ public void handle(Void event) {
                 };
 
                 if (executionModel == ExecutionModel.VIRTUAL_THREAD) {
-                    VirtualThreadsRecorder.getCurrent().execute(new Runnable() {
-                        @Override
-                        public void run() {
-                            Context context = Vertx.currentContext();
-                            contextSupport.start();
-                            action.apply(throwable).subscribe().with(
-                                    v -> {
-                                        context.runOnContext(contextSupportEnd);
-                                        promise.complete();
-                                    },
-                                    t -> {
-                                        context.runOnContext(contextSupportEnd);
-                                        promise.fail(t);
-                                    });
-                        }
-                    });
+                    try {
+                        VirtualThreadsRecorder.getCurrent().execute(new Runnable() {
+                            @Override
+                            public void run() {
+                                Context context = Vertx.currentContext();
+                                contextSupport.start();
+                                action.apply(throwable).subscribe().with(
+                                        v -> {
+                                            context.runOnContext(contextSupportEnd);
+                                            promise.complete();
+                                        },
+                                        t -> {
+                                            context.runOnContext(contextSupportEnd);
+                                            promise.fail(t);
+                                        });
+                            }
+                        });
+                    } catch (RejectedExecutionException e) {
+                        promise.fail(e);
+                    }
                 } else if (executionModel == ExecutionModel.WORKER_THREAD) {
                     Vertx.currentContext().executeBlocking(new Callable<Void>() {
                         @Override
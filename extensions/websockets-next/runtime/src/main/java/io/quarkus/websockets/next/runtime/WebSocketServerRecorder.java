@@ -46,6 +46,7 @@
 import io.quarkus.websockets.next.UserData;
 import io.quarkus.websockets.next.WebSocketSecurity;
 import io.quarkus.websockets.next.WebSocketServerException;
+import io.quarkus.websockets.next.runtime.config.SlowConsumerConfig;
 import io.quarkus.websockets.next.runtime.config.WebSocketsServerRuntimeConfig;
 import io.quarkus.websockets.next.runtime.spi.security.WebSocketIdentityUpdateRequest;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
@@ -93,6 +94,7 @@ public Handler<RoutingContext> createEndpointHandler(String generatedEndpointCla
         Codecs codecs = container.instance(Codecs.class).get();
         HttpUpgradeCheck[] httpUpgradeChecks = getHttpUpgradeChecks(endpointId, container);
         TrafficLogger trafficLogger = TrafficLogger.forServer(runtimeConfig.getValue());
+        SlowConsumerConfig slowConsumer = runtimeConfig.getValue().slowConsumer();
         WebSocketTelemetryProvider telemetryProvider = container.instance(WebSocketTelemetryProvider.class).orElse(null);
         return new Handler<RoutingContext>() {
 
@@ -144,7 +146,10 @@ public void handle(Throwable throwable) {
                             : telemetrySupport.getSendingInterceptor();
                     WebSocketConnectionImpl connection = new WebSocketConnectionImpl(generatedEndpointClass, endpointId, ws,
                             connectionManager, codecs, ctx, trafficLogger, userData, sendingInterceptor,
-                            getSecuritySupportCreator(container, ctx));
+                            getSecuritySupportCreator(container, ctx), slowConsumer.policy());
+                    if (slowConsumer.writeQueueMaxSize().isPresent()) {
+                        ws.setWriteQueueMaxSize(slowConsumer.writeQueueMaxSize().getAsInt());
+                    }
                     connectionManager.add(generatedEndpointClass, connection);
                     if (trafficLogger != null) {
                         trafficLogger.connectionOpened(connection);
@@ -0,0 +1,23 @@
+package io.quarkus.websockets.next.runtime.config;
+
+import java.util.OptionalInt;
+
+import io.smallrye.config.WithDefault;
+
+public interface SlowConsumerConfig {
+
+    /**
+     * The maximum number of bytes queued for writing before the write queue of a connection is considered full. By default, the
+     * high water mark of the underlying Netty channel is used, i.e. 64 KiB.
+     */
+    OptionalInt writeQueueMaxSize();
+
+    /**
+     * The policy applied when a message is sent but the write queue of the connection is full.
+     * <p>
+     * By default, the message is queued anyway and the pending writes of a slow client are not bounded.
+     */
+    @WithDefault("none")
+    SlowConsumerPolicy policy();
+
+}
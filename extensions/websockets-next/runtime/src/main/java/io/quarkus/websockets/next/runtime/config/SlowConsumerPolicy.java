@@ -0,0 +1,23 @@
+package io.quarkus.websockets.next.runtime.config;
+
+/**
+ * The policy applied when a message is sent but the write queue of the connection is full, i.e. the client does not
+ * consume the messages fast enough.
+ */
+public enum SlowConsumerPolicy {
+    /**
+     * The message is queued anyway.
+     */
+    NONE,
+    /**
+     * The message is dropped.
+     * <p>
+     * The sender is not notified: the {@link io.smallrye.mutiny.Uni} returned by the send method completes successfully.
+     */
+    DROP,
+    /**
+     * The message is dropped and the connection is closed.
+     */
+    CLOSE;
+
+}
@@ -76,6 +76,16 @@ public interface WebSocketsServerRuntimeConfig {
      */
     TrafficLoggingConfig trafficLogging();
 
+    /**
+     * Slow consumer configuration.
+     */
+    SlowConsumerConfig slowConsumer();
+
+    /**
+     * Cluster-wide broadcast configuration.
+     */
+    Backplane backplane();
+
     /**
      * Telemetry configuration.
      */
@@ -93,6 +103,23 @@ interface Security {
 
     }
 
+    interface Backplane {
+
+        /**
+         * If set to true then the messages sent via {@link io.quarkus.websockets.next.WebSocketConnection#broadcast()} are
+         * also relayed to other nodes of the cluster via the {@link io.quarkus.websockets.next.BroadcastBackplane}.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The event bus address used by the default backplane.
+         */
+        @WithDefault("quarkus.websockets-next.broadcast")
+        String address();
+
+    }
+
     interface DevMode {
 
         /**
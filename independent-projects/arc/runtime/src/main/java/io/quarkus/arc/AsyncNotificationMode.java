@@ -0,0 +1,74 @@
+package io.quarkus.arc;
+
+import java.util.Locale;
+import java.util.concurrent.Executor;
+
+import jakarta.enterprise.event.NotificationOptions;
+
+/**
+ * Determines how the asynchronous observers are notified when an event is fired via
+ * {@link jakarta.enterprise.event.Event#fireAsync(Object, NotificationOptions)}.
+ * <p>
+ * The mode is selected with the {@link #OPTION} notification option. If not specified, the {@link #SERIAL} mode is used.
+ *
+ * <pre>
+ * event.fireAsync(payload, AsyncNotificationMode.PARALLEL.options());
+ * </pre>
+ *
+ * @see jakarta.enterprise.event.ObservesAsync
+ */
+public enum AsyncNotificationMode {
+
+    /**
+     * All asynchronous observers are notified serially, in a single task submitted to the executor.
+     */
+    SERIAL,
+    /**
+     * Each asynchronous observer is notified in a separate task submitted to the executor. The returned
+     * {@link java.util.concurrent.CompletionStage} completes when all observers are notified.
+     * <p>
+     * The number of observers notified concurrently can be bounded by supplying a bounded {@link Executor} via
+     * {@link NotificationOptions#getExecutor()}.
+     */
+    PARALLEL;
+
+    /**
+     * The key of the notification option. The value may be an {@link AsyncNotificationMode} or its name.
+     */
+    public static final String OPTION = "quarkus.arc.async.notification.mode";
+
+    /**
+     *
+     * @return the notification options with this mode selected
+     */
+    public NotificationOptions options() {
+        return NotificationOptions.of(OPTION, this);
+    }
+
+    /**
+     *
+     * @param executor
+     * @return the notification options with this mode selected and the given executor
+     */
+    public NotificationOptions options(Executor executor) {
+        return NotificationOptions.builder().setExecutor(executor).set(OPTION, this).build();
+    }
+
+    /**
+     *
+     * @param options
+     * @return the mode selected in the given options, or {@link #SERIAL} if no mode is selected
+     * @throws IllegalArgumentException if the option value is not a valid mode
+     */
+    public static AsyncNotificationMode from(NotificationOptions options) {
+        Object value = options.get(OPTION);
+        if (value == null) {
+            return SERIAL;
+        }
+        if (value instanceof AsyncNotificationMode) {
+            return (AsyncNotificationMode) value;
+        }
+        return valueOf(value.toString().trim().toUpperCase(Locale.ROOT));
+    }
+
+}
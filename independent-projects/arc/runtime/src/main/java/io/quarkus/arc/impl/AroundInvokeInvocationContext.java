@@ -20,6 +20,8 @@
  * <p>
  * Note that context data and method parameters are mutable and are not guarded/synchronized. We expect them to be modified
  * before or after dispatch. If modified before and after dispatch an unpredictable behavior may occur.
+ * <p>
+ * The context data map is initialized lazily because most interceptors never use it.
  */
 class AroundInvokeInvocationContext extends AbstractInvocationContext {
 
@@ -33,10 +35,21 @@ static Object perform(Object target, Object[] args, InterceptedMethodMetadata me
     private final InterceptedMethodMetadata metadata;
 
     AroundInvokeInvocationContext(Object target, Object[] args, InterceptedMethodMetadata metadata) {
-        super(target, args, new ContextDataMap(metadata.bindings));
+        // The context data map is only allocated if needed
+        super(target, args, null);
         this.metadata = metadata;
     }
 
+    @Override
+    public Map<String, Object> getContextData() {
+        ContextDataMap data = contextData;
+        if (data == null) {
+            data = new ContextDataMap(metadata.bindings);
+            contextData = data;
+        }
+        return data;
+    }
+
     @Override
     public Set<Annotation> getInterceptorBindings() {
         return metadata.bindings;
@@ -8,6 +8,7 @@
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -19,6 +20,8 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -42,6 +45,7 @@
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.AsyncNotificationMode;
 import io.quarkus.arc.AsyncObserverExceptionHandler;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
@@ -102,6 +106,11 @@ public <U extends T> CompletionStage<U> fireAsync(U event, NotificationOptions o
             return AsyncEventDeliveryStage.completed(event, executor);
         }
 
+        if (AsyncNotificationMode.from(options) == AsyncNotificationMode.PARALLEL
+                && notifier.getAsyncObserverMethods().size() > 1) {
+            return new AsyncEventDeliveryStage<>(notifyParallel(notifier, event, executor), executor);
+        }
+
         Supplier<U> notifyLogic = new Supplier<U>() {
             @Override
             public U get() {
@@ -118,6 +127,44 @@ public U get() {
         return new AsyncEventDeliveryStage<>(completableFuture, executor);
     }
 
+    private <U extends T> CompletableFuture<U> notifyParallel(Notifier<U> notifier, U event, Executor executor) {
+        List<ObserverMethod<? super U>> asyncObserverMethods = notifier.getAsyncObserverMethods();
+        // Observers are notified concurrently - the collection must be synchronized
+        ObserverExceptionHandler exceptionHandler = new CollectingExceptionHandler(
+                Collections.synchronizedList(new ArrayList<>()),
+                Arc.requireContainer().instance(AsyncObserverExceptionHandler.class).get());
+        CompletableFuture<?>[] notifications = new CompletableFuture<?>[asyncObserverMethods.size()];
+        for (int i = 0; i < notifications.length; i++) {
+            ObserverMethod<? super U> observerMethod = asyncObserverMethods.get(i);
+            try {
+                notifications[i] = CompletableFuture.runAsync(new Runnable() {
+                    @Override
+                    public void run() {
+                        notifier.notifyAsync(event, exceptionHandler, observerMethod);
+                    }
+                }, executor);
+            } catch (RejectedExecutionException e) {
+                // The remaining observers cannot be notified, e.g. because a bounded executor is saturated
+                // Fail the stage once the observers that were already submitted are notified
+                CompletableFuture<U> rejected = new CompletableFuture<>();
+                CompletableFuture.allOf(Arrays.copyOf(notifications, i)).whenComplete(new BiConsumer<Void, Throwable>() {
+                    @Override
+                    public void accept(Void ignored, Throwable failure) {
+                        rejected.completeExceptionally(e);
+                    }
+                });
+                return rejected;
+            }
+        }
+        return CompletableFuture.allOf(notifications).thenApply(new Function<Void, U>() {
+            @Override
+            public U apply(Void ignored) {
+                handleExceptions(exceptionHandler);
+                return event;
+            }
+        });
+    }
+
     private Notifier<? super T> getNotifier(Class<?> runtimeType) {
         Notifier<? super T> notifier = this.lastNotifier;
         if (notifier != null && notifier.runtimeType.equals(runtimeType)) {
@@ -258,6 +305,8 @@ private void handleExceptions(ObserverExceptionHandler handler) {
         final EventMetadata eventMetadata;
         private final boolean hasTxObservers;
         private final boolean activateRequestContext;
+        // Lazily computed, racy single-check is fine here
+        private volatile List<ObserverMethod<? super T>> asyncObserverMethods;
 
         Notifier(Class<?> runtimeType, List<ObserverMethod<? super T>> observerMethods, EventMetadata eventMetadata) {
             this(runtimeType, observerMethods, eventMetadata, true);
@@ -337,28 +386,54 @@ void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
                 }
 
                 // Non-tx observers notifications
-                // req. context is activated if not in strict mode and not for lifecycle events such as init/shutdown
-                if (activateRequestContext) {
-                    ManagedContext requestContext = Arc.requireContainer().requestContext();
-                    if (requestContext.isActive()) {
-                        notifyObservers(event, exceptionHandler, predicate);
-                    } else {
-                        try {
-                            requestContext.activate();
-                            notifyObservers(event, exceptionHandler, predicate);
-                        } finally {
-                            requestContext.terminate();
-                        }
+                notifyObserversInRequestContext(event, exceptionHandler, predicate);
+            }
+        }
+
+        /**
+         * Notifies a single async observer method of this notifier.
+         */
+        void notifyAsync(T event, ObserverExceptionHandler exceptionHandler, ObserverMethod<? super T> observerMethod) {
+            notifyObserversInRequestContext(event, exceptionHandler, Predicate.isEqual(observerMethod));
+        }
+
+        List<ObserverMethod<? super T>> getAsyncObserverMethods() {
+            List<ObserverMethod<? super T>> asyncObserverMethods = this.asyncObserverMethods;
+            if (asyncObserverMethods == null) {
+                asyncObserverMethods = new ArrayList<>();
+                for (ObserverMethod<? super T> observerMethod : observerMethods) {
+                    if (observerMethod.isAsync()) {
+                        asyncObserverMethods.add(observerMethod);
                     }
-                } else {
+                }
+                this.asyncObserverMethods = asyncObserverMethods = List.copyOf(asyncObserverMethods);
+            }
+            return asyncObserverMethods;
+        }
+
+        private void notifyObserversInRequestContext(T event, ObserverExceptionHandler exceptionHandler,
+                Predicate<? super ObserverMethod<?>> predicate) {
+            // req. context is activated if not in strict mode and not for lifecycle events such as init/shutdown
+            if (activateRequestContext) {
+                ManagedContext requestContext = Arc.requireContainer().requestContext();
+                if (requestContext.isActive()) {
                     notifyObservers(event, exceptionHandler, predicate);
+                } else {
+                    try {
+                        requestContext.activate();
+                        notifyObservers(event, exceptionHandler, predicate);
+                    } finally {
+                        requestContext.terminate();
+                    }
                 }
+            } else {
+                notifyObservers(event, exceptionHandler, predicate);
             }
         }
 
         @SuppressWarnings({ "rawtypes", "unchecked" })
         private void notifyObservers(T event, ObserverExceptionHandler exceptionHandler,
-                Predicate<ObserverMethod<?>> predicate) {
+                Predicate<? super ObserverMethod<?>> predicate) {
             EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
             for (ObserverMethod<?> observerMethod : observerMethods) {
                 if (predicate.test(observerMethod)) {
@@ -0,0 +1,151 @@
+package io.quarkus.arc.test.observers.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Locale;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.AsyncNotificationMode;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class ParallelAsyncObserverTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Producer.class, Observers.class, RequestBean.class);
+
+    @Test
+    public void testObserversNotifiedConcurrently() throws InterruptedException, ExecutionException, TimeoutException {
+        Producer producer = Arc.container().instance(Producer.class).get();
+        Observers observers = Arc.container().instance(Observers.class).get();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // Both observers wait for each other - this would time out if they were notified serially
+            Ping ping = new Ping(new CountDownLatch(2), false);
+            assertEquals(ping, producer.event.fireAsync(ping, AsyncNotificationMode.PARALLEL.options(executor))
+                    .toCompletableFuture().get(10, TimeUnit.SECONDS));
+            assertEquals(0, observers.notified.getCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testExceptionsCollected() {
+        Producer producer = Arc.container().instance(Producer.class).get();
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> producer.event.fireAsync(new Ping(new CountDownLatch(0), true), AsyncNotificationMode.PARALLEL.options())
+                        .toCompletableFuture().get(10, TimeUnit.SECONDS));
+        assertInstanceOf(CompletionException.class, e.getCause());
+        assertEquals(2, e.getCause().getSuppressed().length);
+        for (Throwable suppressed : e.getCause().getSuppressed()) {
+            assertInstanceOf(IllegalStateException.class, suppressed);
+        }
+    }
+
+    @Test
+    public void testRejectedNotificationFailsStage() {
+        Producer producer = Arc.container().instance(Producer.class).get();
+        AtomicInteger submitted = new AtomicInteger();
+        // Only accepts the first notification
+        Executor executor = task -> {
+            if (submitted.incrementAndGet() > 1) {
+                throw new RejectedExecutionException();
+            }
+            task.run();
+        };
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> producer.event.fireAsync(new Ping(new CountDownLatch(1), false),
+                        AsyncNotificationMode.PARALLEL.options(executor)).toCompletableFuture().get(10, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+        assertEquals(2, submitted.get());
+    }
+
+    @Test
+    public void testModeFromString() {
+        assertEquals(AsyncNotificationMode.PARALLEL,
+                AsyncNotificationMode
+                        .from(jakarta.enterprise.event.NotificationOptions.of(AsyncNotificationMode.OPTION, "parallel")));
+        assertEquals(AsyncNotificationMode.SERIAL,
+                AsyncNotificationMode.from(jakarta.enterprise.event.NotificationOptions.ofExecutor(Runnable::run)));
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            assertEquals(AsyncNotificationMode.SERIAL,
+                    AsyncNotificationMode
+                            .from(jakarta.enterprise.event.NotificationOptions.of(AsyncNotificationMode.OPTION, "serial")));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    record Ping(CountDownLatch latch, boolean fail) {
+    }
+
+    @Singleton
+    static class Producer {
+
+        @Inject
+        Event<Ping> event;
+
+    }
+
+    @Singleton
+    static class Observers {
+
+        final CountDownLatch notified = new CountDownLatch(2);
+
+        @Inject
+        RequestBean requestBean;
+
+        void observe1(@ObservesAsync Ping ping) throws InterruptedException {
+            onPing(ping);
+        }
+
+        void observe2(@ObservesAsync Ping ping) throws InterruptedException {
+            onPing(ping);
+        }
+
+        private void onPing(Ping ping) throws InterruptedException {
+            // The request context is active for each observer
+            requestBean.ping();
+            if (ping.fail()) {
+                throw new IllegalStateException();
+            }
+            ping.latch().countDown();
+            assertTrue(ping.latch().await(5, TimeUnit.SECONDS));
+            notified.countDown();
+        }
+
+    }
+
+    @RequestScoped
+    static class RequestBean {
+
+        void ping() {
+        }
+
+    }
+
+}
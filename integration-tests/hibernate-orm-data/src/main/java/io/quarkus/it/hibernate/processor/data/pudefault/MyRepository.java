@@ -4,6 +4,8 @@
 import java.util.stream.Stream;
 
 import jakarta.data.Order;
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
 import jakarta.data.repository.CrudRepository;
 import jakarta.data.repository.Delete;
 import jakarta.data.repository.Find;
@@ -19,6 +21,13 @@ public interface MyRepository extends CrudRepository<MyEntity, Integer> {
     @Query("select e from MyEntity e where e.name like :name")
     List<MyEntity> findByName(String name);
 
+    // JDQL queries omitting the select and from clauses, completed by the Hibernate Processor
+    @Query("where name = :name")
+    List<MyEntity> findByExactName(String name);
+
+    @Query("where name like :name order by name")
+    Page<MyEntity> findPageByName(String name, PageRequest pageRequest);
+
     @Delete
     void delete(String name);
 
@@ -0,0 +1,61 @@
+package io.quarkus.it.hibernate.processor.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.data.page.PageRequest;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.it.hibernate.processor.data.pudefault.MyRepository;
+import io.quarkus.test.junit.QuarkusTest;
+
+/**
+ * The queries of the generated repositories are interpreted on startup:
+ * executing them doesn't add any entry to the query interpretation cache.
+ * <p>
+ * Each repository method is only called by this test, so that its query was not interpreted on a previous call.
+ */
+@QuarkusTest
+public class RepositoryQueryWarmUpTest {
+
+    @Inject
+    MyRepository repository;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    QueryInterpretationCache interpretationCache;
+
+    @BeforeEach
+    void interpretationCache() {
+        interpretationCache = sessionFactory.unwrap(SessionFactoryImplementor.class).getQueryEngine()
+                .getInterpretationCache();
+        assertThat(interpretationCache.getNumberOfCachedHqlInterpretations()).isPositive();
+    }
+
+    @Test
+    @Transactional
+    public void jdqlQuery() {
+        int cachedInterpretations = interpretationCache.getNumberOfCachedHqlInterpretations();
+
+        assertThat(repository.findByExactName("warm-up")).isEmpty();
+
+        assertThat(interpretationCache.getNumberOfCachedHqlInterpretations()).isEqualTo(cachedInterpretations);
+    }
+
+    @Test
+    @Transactional
+    public void pagedQuery() {
+        int cachedInterpretations = interpretationCache.getNumberOfCachedHqlInterpretations();
+
+        assertThat(repository.findPageByName("warm-up%", PageRequest.ofSize(10)).content()).isEmpty();
+
+        assertThat(interpretationCache.getNumberOfCachedHqlInterpretations()).isEqualTo(cachedInterpretations);
+    }
+}